@@ -0,0 +1,45 @@
+package utils;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Whitelist checks, done once per critical or serious violation of a scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessibilityWhitelistBenchmark {
+
+    @Setup
+    public void setUp() {
+        AccessibilityUtil.loadWhitelist("src/test/resources/a11y-whitelist.json");
+    }
+
+    @Benchmark
+    public boolean whitelistedRule() {
+        return AccessibilityUtil.isWhitelisted("LoginPage", "button-name");
+    }
+
+    @Benchmark
+    public boolean notWhitelistedRule() {
+        return AccessibilityUtil.isWhitelisted("LoginPage", "color-contrast");
+    }
+
+    @Benchmark
+    public boolean unknownPage() {
+        return AccessibilityUtil.isWhitelisted("UnknownPage", "button-name");
+    }
+}
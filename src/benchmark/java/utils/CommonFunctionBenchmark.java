@@ -0,0 +1,98 @@
+package utils;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overhead of CommonFunction waits over a plain Playwright visibility check,
+ * and per-field fills against one fillForm call, on the local login page in
+ * headless Chromium. The login benchmarks compare the whole form: the
+ * per-field helpers (a visibility check and an action per field and the
+ * button) against fillForm (one readiness script, then the actions).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommonFunctionBenchmark {
+
+    private Playwright playwright;
+    private Browser browser;
+    private Page page;
+    private Locator emailInput;
+    private Locator passwordInput;
+    private Locator loginButton;
+    private final Map<String, String> loginFields = new LinkedHashMap<>();
+
+    @Setup
+    public void setUp() {
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(true));
+        page = browser.newPage();
+        page.navigate(Paths.get("src/test/resources/login.html").toUri().toString());
+        emailInput = page.locator("#email");
+        passwordInput = page.locator("#password");
+        loginButton = page.locator("#loginButton");
+        loginFields.put("#email", "test@example.com");
+        loginFields.put("#password", "password123");
+    }
+
+    @TearDown
+    public void tearDown() {
+        browser.close();
+        playwright.close();
+    }
+
+    @Benchmark
+    public boolean playwrightIsVisible() {
+        return emailInput.isVisible();
+    }
+
+    @Benchmark
+    public void waitForElement() {
+        CommonFunction.waitForElement(emailInput, "Email input field");
+    }
+
+    @Benchmark
+    public void fillFieldByField() {
+        CommonFunction.fill(emailInput, "test@example.com", "Email input field");
+        CommonFunction.fill(passwordInput, "password123", "Password input field");
+    }
+
+    @Benchmark
+    public Map<String, Double> fillForm() {
+        return CommonFunction.fillForm(page, loginFields, null, "Login form");
+    }
+
+    @Benchmark
+    public void loginFieldByField() {
+        CommonFunction.fill(emailInput, "test@example.com", "Email input field");
+        CommonFunction.fill(passwordInput, "password123", "Password input field");
+        CommonFunction.click(loginButton, "Login button");
+    }
+
+    @Benchmark
+    public Map<String, Double> loginFillForm() {
+        return CommonFunction.fillForm(page, loginFields, "#loginButton", "Login form");
+    }
+}
@@ -0,0 +1,45 @@
+package utils;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Configuration lookups, which run on every wait, scan and hook.
+ * Each lookup checks system properties before config.properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigReaderBenchmark {
+
+    @Benchmark
+    public String getString() {
+        return ConfigReader.get("browser");
+    }
+
+    @Benchmark
+    public String getMissingWithDefault() {
+        return ConfigReader.get("benchmark.missing.key", "default");
+    }
+
+    @Benchmark
+    public int getInt() {
+        return ConfigReader.getInt("timeout", 30000);
+    }
+
+    @Benchmark
+    public boolean getBoolean() {
+        return ConfigReader.getBoolean("headless", true);
+    }
+}
@@ -0,0 +1,42 @@
+package utils;
+
+import com.google.gson.JsonObject;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Fixture loading from src/test/resources/fixtures (run from the project root).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FixtureLoaderBenchmark {
+
+    private static final String FIXTURE = "user-response.json";
+
+    @Benchmark
+    public String loadAsString() {
+        return FixtureLoader.loadFixtureAsString(FIXTURE);
+    }
+
+    @Benchmark
+    public JsonObject loadAndParse() {
+        return FixtureLoader.loadFixture(FIXTURE, JsonObject.class);
+    }
+
+    @Benchmark
+    public boolean fixtureExists() {
+        return FixtureLoader.fixtureExists(FIXTURE);
+    }
+}
@@ -0,0 +1,70 @@
+package utils;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Result recording and HTML report generation for suites of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportingUtilBenchmark {
+
+    @Param({"10", "200", "1000"})
+    public int results;
+
+    private ch.qos.logback.classic.Logger reportingLogger;
+    private ch.qos.logback.classic.Level reportingLevel;
+
+    @Setup(Level.Trial)
+    public void silenceLogging() {
+        // Every recorded result is logged at INFO; keep console I/O out of the measurement
+        reportingLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(ReportingUtil.class);
+        reportingLevel = reportingLogger.getLevel();
+        reportingLogger.setLevel(ch.qos.logback.classic.Level.WARN);
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreLogging() {
+        reportingLogger.setLevel(reportingLevel);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        // Every invocation starts from exactly `results` entries
+        ReportingUtil.clearResults();
+        for (int i = 0; i < results; i++) {
+            ReportingUtil.recordTestResult("features/benchmark.feature:" + i, "Scenario " + i,
+                    i % 10 == 0 ? "FAILED" : "PASSED", 1000 + i, i % 10 == 0 ? "Expected failure" : null);
+        }
+    }
+
+    @Benchmark
+    public int recordTestResult() {
+        ReportingUtil.recordTestResult("features/benchmark.feature:" + results, "Scenario " + results,
+                "PASSED", 1000, null);
+        return ReportingUtil.getTotalTests();
+    }
+
+    @Benchmark
+    public String generateHtmlContent() {
+        return ReportingUtil.generateHtmlContent();
+    }
+}
@@ -0,0 +1,39 @@
+package utils;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Random test data generation (UUID based, uses the shared SecureRandom).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestDataGeneratorBenchmark {
+
+    @Benchmark
+    public String randomEmail() {
+        return TestDataGenerator.randomEmail();
+    }
+
+    @Benchmark
+    public String randomPassword() {
+        return TestDataGenerator.randomPassword();
+    }
+
+    @Benchmark
+    public String randomUsername() {
+        return TestDataGenerator.randomUsername();
+    }
+}
@@ -0,0 +1,406 @@
+package core;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.Cookie;
+import com.microsoft.playwright.options.SameSiteAttribute;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.ConfigReader;
+import utils.Instrumentation;
+import utils.MetricsRegistry;
+
+/**
+ * Shared cache of authenticated browser storage state (cookies and
+ * localStorage) keyed by role, so scenarios that only need to be logged in
+ * skip the login flow.
+ *
+ * <p>
+ * Logins run on a dedicated {@code auth-state} thread with its own browser
+ * (Playwright objects stay on the thread that created them). A login that
+ * exceeds {@code auth.state.login.timeout.seconds} is abandoned together
+ * with its thread and browser, so later logins run on a fresh thread.
+ * Lookups are single-flight: when several workers need the same role at
+ * once, one login runs and the others wait for its result. Each worker then
+ * applies the state to its own scenario context.
+ *
+ * <p>
+ * Entries expire after {@code auth.state.ttl.seconds}. Roles used since the
+ * last login are logged in again in the background
+ * {@code auth.state.refresh.before.seconds} before expiry, so workers keep
+ * hitting the cache; a failed refresh keeps the current state until it
+ * expires. {@link #invalidate(String)} drops a role, e.g. after a password
+ * change. Set {@code auth.state.cache.enabled=false} to always log in through
+ * the scenario page.
+ *
+ * <pre>
+ * if (AuthStateCache.authenticate(page, "admin", loginPage -> ...)) {
+ *     homePage.open();
+ * }
+ * </pre>
+ */
+public final class AuthStateCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthStateCache.class);
+    private static final Gson gson = new Gson();
+    private static final Map<String, CompletableFuture<CachedState>> STATES = new ConcurrentHashMap<>();
+    private static final Map<String, Consumer<Page>> LOGIN_FLOWS = new ConcurrentHashMap<>();
+    private static final MetricsRegistry.Histogram LOGIN_DURATION = MetricsRegistry.histogram(
+            "auth_state_login_duration_seconds", "Time to log in and capture storage state");
+
+    /** Login browser of each auth-state thread; an abandoned thread keeps its own. */
+    private static final ThreadLocal<BrowserManager> LOGIN_BROWSER = new ThreadLocal<>();
+
+    private static volatile ScheduledExecutorService executor;
+
+    private AuthStateCache() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Check whether cached storage state may be used.
+     *
+     * @return true unless {@code auth.state.cache.enabled} is false
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("auth.state.cache.enabled", true);
+    }
+
+    /**
+     * Make the page's context authenticated for a role: apply the cached
+     * storage state, logging in first if no fresh state exists.
+     *
+     * @param page  the scenario page
+     * @param role  the role (or credential) the state belongs to
+     * @param login the login flow; runs on a page of the login browser, or on
+     *              {@code page} itself when the cache is disabled
+     * @return true if cached state was applied, false if the login flow ran
+     *         on {@code page}
+     */
+    public static boolean authenticate(final Page page, final String role, final Consumer<Page> login) {
+        if (!isEnabled()) {
+            login.accept(page);
+            return false;
+        }
+
+        LOGIN_FLOWS.putIfAbsent(role, login);
+        final CachedState state = get(role);
+        state.lastUsed = System.currentTimeMillis();
+        apply(page.context(), state.storageState);
+        logger.info("✓ Applied storage state for role {} ({} s old)",
+                role, (state.lastUsed - state.createdAt) / 1000);
+        return true;
+    }
+
+    /**
+     * Drop the cached state of a role; the next lookup logs in again.
+     *
+     * @param role the role
+     */
+    public static void invalidate(final String role) {
+        if (STATES.remove(role) != null) {
+            logger.info("Invalidated storage state for role {}", role);
+        }
+    }
+
+    /**
+     * Cancel background refreshes, close the login browser and drop all
+     * cached states (the base URL, and so the storage origin, may differ in
+     * the next run).
+     */
+    public static synchronized void shutdown() {
+        STATES.clear();
+        LOGIN_FLOWS.clear();
+        if (executor == null) {
+            return;
+        }
+        try {
+            executor.submit(AuthStateCache::closeLoginBrowser).get(30, TimeUnit.SECONDS);
+        } catch (final ExecutionException | TimeoutException e) {
+            logger.warn("Failed to close the login browser", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        executor = null;
+    }
+
+    /**
+     * Single-flight lookup: reuse a pending or fresh login, otherwise start
+     * one. Failed and expired entries are replaced. Waits at most
+     * {@code auth.state.login.timeout.seconds} for the login.
+     */
+    private static CachedState get(final String role) {
+        // Taken before compute(): executor() locks the class, which shutdown() holds while clearing STATES
+        final ScheduledExecutorService pool = executor();
+        final boolean[] started = new boolean[1];
+        final CompletableFuture<CachedState> future;
+        try {
+            future = STATES.compute(role, (key, existing) -> {
+                if (existing != null && isUsable(existing)) {
+                    return existing;
+                }
+                started[0] = true;
+                return CompletableFuture.supplyAsync(() -> login(key, pool), pool)
+                        .thenApply(state -> scheduleRefresh(key, state));
+            });
+        } catch (final RejectedExecutionException e) {
+            throw new RuntimeException("Login for role " + role + " rejected - the cache is shutting down", e);
+        }
+        count(started[0] ? "miss" : "hit");
+
+        final int timeoutSeconds = ConfigReader.getInt("auth.state.login.timeout.seconds", 120);
+        try {
+            return future.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (final ExecutionException e) {
+            final String message = "Login for role " + role + " failed";
+            logger.error(message, e.getCause());
+            throw new RuntimeException(message, e.getCause());
+        } catch (final TimeoutException e) {
+            // The stuck login holds the auth-state thread; give the next lookup a new one
+            future.cancel(true);
+            STATES.remove(role, future);
+            abandon(pool);
+            final String message = String.format("Login for role %s did not finish within %d s "
+                    + "(auth.state.login.timeout.seconds)", role, timeoutSeconds);
+            logger.error(message);
+            throw new RuntimeException(message, e);
+        } catch (final CancellationException e) {
+            throw new RuntimeException("Login for role " + role
+                    + " was abandoned because a login on the auth-state thread timed out", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for login of role " + role, e);
+        }
+    }
+
+    private static boolean isUsable(final CompletableFuture<CachedState> future) {
+        if (!future.isDone()) {
+            return true;
+        }
+        if (future.isCompletedExceptionally()) {
+            return false;
+        }
+        return !future.join().isExpired();
+    }
+
+    /**
+     * Stop using a login thread that is stuck in a login: it is interrupted,
+     * the logins queued behind it fail, and the next login starts a new
+     * thread with its own browser. Background refreshes scheduled on it are
+     * dropped; those roles log in again once their state expires.
+     */
+    private static synchronized void abandon(final ScheduledExecutorService pool) {
+        if (executor != pool) {
+            return;
+        }
+        executor = null;
+        pool.shutdownNow();
+        STATES.forEach((key, pending) -> {
+            if (!pending.isDone()) {
+                pending.cancel(true);
+                STATES.remove(key, pending);
+            }
+        });
+        logger.warn("Abandoned the auth-state thread after a login timed out - starting a new one for later logins");
+    }
+
+    /**
+     * Runs on the auth-state thread: log in with a fresh context of the login
+     * browser and capture its storage state. If the thread was abandoned
+     * while the login ran, its browser is closed afterwards.
+     */
+    private static CachedState login(final String role, final ScheduledExecutorService pool) {
+        final Consumer<Page> flow = LOGIN_FLOWS.get(role);
+        if (flow == null) {
+            throw new IllegalStateException("No login flow registered for role " + role);
+        }
+        BrowserManager browser = LOGIN_BROWSER.get();
+        if (browser == null) {
+            browser = new BrowserManager();
+            LOGIN_BROWSER.set(browser);
+        }
+
+        final long start = System.currentTimeMillis();
+        try (Instrumentation.Span span = Instrumentation.span("AuthStateCache.login", role)) {
+            final BrowserContext context = browser.newContext();
+            try {
+                flow.accept(context.newPage());
+                final CachedState state = new CachedState(context.storageState(), System.currentTimeMillis());
+                LOGIN_DURATION.observeMillis(state.createdAt - start);
+                logger.info("✓ Logged in as role {} in {} ms", role, state.createdAt - start);
+                return state;
+            } finally {
+                context.close();
+            }
+        } finally {
+            if (pool.isShutdown()) {
+                closeLoginBrowser();
+            }
+        }
+    }
+
+    /**
+     * Runs on an auth-state thread: close its login browser.
+     */
+    private static void closeLoginBrowser() {
+        final BrowserManager browser = LOGIN_BROWSER.get();
+        if (browser != null) {
+            LOGIN_BROWSER.remove();
+            browser.closeAll();
+        }
+    }
+
+    private static CachedState scheduleRefresh(final String role, final CachedState state) {
+        final long refreshBeforeMs = ConfigReader.getInt("auth.state.refresh.before.seconds", 60) * 1000L;
+        final long delayMs = Math.max(0, ttlMs() - refreshBeforeMs);
+        // Runs on the auth-state thread; read the field directly so a concurrent shutdown cannot block it
+        final ScheduledExecutorService current = executor;
+        try {
+            if (current != null) {
+                current.schedule(() -> refresh(role, state, current), delayMs, TimeUnit.MILLISECONDS);
+            }
+        } catch (final RejectedExecutionException e) {
+            logger.debug("Not scheduling refresh for role {} - cache is shutting down", role);
+        }
+        return state;
+    }
+
+    /**
+     * Runs on the auth-state thread shortly before a state expires. Roles not
+     * used since their last login are left to expire.
+     */
+    private static void refresh(final String role, final CachedState current, final ScheduledExecutorService pool) {
+        final CompletableFuture<CachedState> entry = STATES.get(role);
+        if (entry == null || !entry.isDone() || entry.isCompletedExceptionally() || entry.join() != current) {
+            return;
+        }
+        if (current.lastUsed < current.createdAt) {
+            logger.debug("Role {} idle since last login - not refreshing", role);
+            return;
+        }
+
+        try {
+            final CachedState refreshed = login(role, pool);
+            if (STATES.replace(role, entry, CompletableFuture.completedFuture(refreshed))) {
+                scheduleRefresh(role, refreshed);
+                count("refresh");
+            }
+        } catch (final RuntimeException e) {
+            count("refresh_failed");
+            logger.warn("Background refresh for role {} failed - keeping current state until it expires", role, e);
+        }
+    }
+
+    /**
+     * Apply storage state to an existing context: cookies are added directly
+     * and localStorage is seeded by an init script before any page script
+     * runs, which matches creating the context with that storage state.
+     *
+     * @param context      the browser context
+     * @param storageState storage state JSON as returned by
+     *                     {@link BrowserContext#storageState()}
+     */
+    public static void apply(final BrowserContext context, final String storageState) {
+        final JsonObject state = gson.fromJson(storageState, JsonObject.class);
+
+        final List<Cookie> cookies = new ArrayList<>();
+        if (state.has("cookies")) {
+            for (final JsonElement element : state.getAsJsonArray("cookies")) {
+                cookies.add(toCookie(element.getAsJsonObject()));
+            }
+        }
+        if (!cookies.isEmpty()) {
+            context.addCookies(cookies);
+        }
+
+        if (state.has("origins")) {
+            for (final JsonElement element : state.getAsJsonArray("origins")) {
+                final JsonObject origin = element.getAsJsonObject();
+                context.addInitScript("(() => {\n"
+                        + "  if (window.location.origin !== " + gson.toJson(origin.get("origin").getAsString())
+                        + ") { return; }\n"
+                        + "  " + gson.toJson(origin.getAsJsonArray("localStorage"))
+                        + ".forEach(item => window.localStorage.setItem(item.name, item.value));\n"
+                        + "})();");
+            }
+        }
+    }
+
+    private static Cookie toCookie(final JsonObject json) {
+        final Cookie cookie = new Cookie(json.get("name").getAsString(), json.get("value").getAsString())
+                .setDomain(json.get("domain").getAsString())
+                .setPath(json.get("path").getAsString());
+        if (json.has("expires")) {
+            cookie.setExpires(json.get("expires").getAsDouble());
+        }
+        if (json.has("httpOnly")) {
+            cookie.setHttpOnly(json.get("httpOnly").getAsBoolean());
+        }
+        if (json.has("secure")) {
+            cookie.setSecure(json.get("secure").getAsBoolean());
+        }
+        if (json.has("sameSite")) {
+            cookie.setSameSite(SameSiteAttribute.valueOf(
+                    json.get("sameSite").getAsString().toUpperCase(Locale.ROOT)));
+        }
+        return cookie;
+    }
+
+    private static synchronized ScheduledExecutorService executor() {
+        if (executor == null) {
+            final ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final Thread thread = new Thread(runnable, "auth-state");
+                thread.setDaemon(true);
+                return thread;
+            });
+            pool.setRemoveOnCancelPolicy(true);
+            executor = pool;
+        }
+        return executor;
+    }
+
+    private static long ttlMs() {
+        return ConfigReader.getInt("auth.state.ttl.seconds", 900) * 1000L;
+    }
+
+    private static void count(final String result) {
+        MetricsRegistry.counter("auth_state_cache_lookups", "Storage state cache lookups and refreshes",
+                "result", result).inc();
+    }
+
+    /**
+     * Storage state of one role and when it was captured and last used.
+     */
+    private static final class CachedState {
+        final String storageState;
+        final long createdAt;
+        volatile long lastUsed;
+
+        CachedState(final String storageState, final long createdAt) {
+            this.storageState = storageState;
+            this.createdAt = createdAt;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - createdAt > ttlMs();
+        }
+    }
+}
@@ -10,8 +10,10 @@ import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import utils.AccessibilityReportStore;
 import utils.ArtifactManager;
 import utils.ConfigReader;
+import utils.ResourceBlocker;
 
 /**
  * JUnit 5 extension managing browser lifecycle with support for
@@ -41,6 +43,7 @@ public class BrowserExtension implements BeforeAllCallback, AfterAllCallback, Be
             browserManager.closeAll();
             browserManager = null;
         }
+        AccessibilityReportStore.write();
     }
 
     @Override
@@ -57,6 +60,14 @@ public class BrowserExtension implements BeforeAllCallback, AfterAllCallback, Be
         final Browser browser = browserManager.getBrowser();
 
         final BrowserContext context = browser.newContext();
+        if (ResourceBlocker.isEnabled()) {
+            // @Tag("no-blocking") opts a test out of the blocking profile
+            if (extensionContext.getTags().contains("no-blocking")) {
+                ResourceBlocker.observe(context);
+            } else {
+                ResourceBlocker.apply(context);
+            }
+        }
         final Page page = context.newPage();
         page.setDefaultTimeout(ConfigReader.getInt("timeout", 30000));
 
@@ -2,9 +2,16 @@ package core;
 
 import com.microsoft.playwright.*;
 import utils.ConfigReader;
+import utils.Instrumentation;
+import utils.MetricsRegistry;
 
 public final class BrowserManager {
 
+    private static final MetricsRegistry.Counter CONTEXTS_CREATED =
+            MetricsRegistry.counter("playwright_contexts_created", "Browser contexts created");
+    private static final MetricsRegistry.Gauge CONTEXTS_OPEN =
+            MetricsRegistry.gauge("playwright_contexts_open", "Browser contexts currently open");
+
     private Playwright playwright;
     private Browser browser;
 
@@ -16,22 +23,37 @@ public final class BrowserManager {
 
         final BrowserType.LaunchOptions options = new BrowserType.LaunchOptions().setHeadless(headless);
 
-        switch (browserName.toLowerCase()) {
-            case "firefox":
-                browser = playwright.firefox().launch(options);
-                break;
-            case "webkit":
-                browser = playwright.webkit().launch(options);
-                break;
-            default:
-                browser = playwright.chromium().launch(options);
+        final long launchStart = System.currentTimeMillis();
+        try (Instrumentation.Span span = Instrumentation.span("BrowserManager.launch", browserName)) {
+            switch (browserName.toLowerCase()) {
+                case "firefox":
+                    browser = playwright.firefox().launch(options);
+                    break;
+                case "webkit":
+                    browser = playwright.webkit().launch(options);
+                    break;
+                default:
+                    browser = playwright.chromium().launch(options);
+            }
         }
+        MetricsRegistry.counter("playwright_browser_launches", "Browsers launched",
+                "browser", browserName).inc();
+        MetricsRegistry.histogram("playwright_browser_launch_duration_seconds", "Time to launch a browser",
+                "browser", browserName).observeMillis(System.currentTimeMillis() - launchStart);
     }
 
     public Browser getBrowser() {
         return browser;
     }
 
+    public BrowserContext newContext() {
+        final BrowserContext context = browser.newContext();
+        CONTEXTS_CREATED.inc();
+        CONTEXTS_OPEN.inc();
+        context.onClose(closed -> CONTEXTS_OPEN.dec());
+        return context;
+    }
+
     public void closeAll() {
         if (browser != null) {
             browser.close();
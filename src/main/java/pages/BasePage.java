@@ -0,0 +1,154 @@
+package pages;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base class for page objects.
+ * Selectors are declared as {@link Selector}-annotated {@code static final
+ * String} constants. They are collected once per page class, and the plain
+ * CSS ones are syntax-checked in the browser, in one call, the first time
+ * the class is constructed, so a malformed selector fails immediately
+ * instead of timing out on first use. Selectors using Playwright engines
+ * (text=, xpath, >>) or Playwright's CSS extensions (:has-text(), :visible,
+ * ...) are not checked and fail on first use if malformed.
+ *
+ * <p>
+ * {@link #locator(String)} creates each Locator lazily and reuses it for the
+ * lifetime of the page object, which is bound to one Page.
+ *
+ * <pre>
+ * public class LoginPage extends BasePage {
+ *     &#64;Selector
+ *     private static final String EMAIL_INPUT = "#email";
+ *
+ *     public void enterEmail(final String email) {
+ *         CommonFunction.fill(locator(EMAIL_INPUT), email, "Email input field");
+ *     }
+ * }
+ * </pre>
+ */
+public abstract class BasePage {
+
+    private static final Logger logger = LoggerFactory.getLogger(BasePage.class);
+    private static final ClassValue<Map<String, String>> REGISTRY = new ClassValue<>() {
+        @Override
+        protected Map<String, String> computeValue(final Class<?> type) {
+            return collectSelectors(type);
+        }
+    };
+    private static final Set<Class<?>> VALIDATED = ConcurrentHashMap.newKeySet();
+
+    /** Returns the selectors that are not valid CSS. */
+    private static final String VALIDATE_SCRIPT = "selectors => selectors.filter(s => {\n"
+            + "  try { document.querySelectorAll(s); return false; }\n"
+            + "  catch (e) { return true; }\n"
+            + "})";
+
+    /** Playwright selector engines and CSS extensions, which the browser cannot parse. */
+    private static final Pattern PLAYWRIGHT_SELECTOR = Pattern.compile(
+            "^(//|\\.\\.|[\"']|[a-zA-Z_-]+=)|>>"
+                    + "|:(has-text|text|text-is|text-matches|visible|nth-match|left-of|right-of|above|below|near)\\b");
+
+    protected final Page page;
+    private final Map<String, String> selectors;
+    private final Map<String, Locator> locators = new HashMap<>();
+
+    protected BasePage(final Page page) {
+        this.page = page;
+        this.selectors = REGISTRY.get(getClass());
+        if (!VALIDATED.contains(getClass())) {
+            validate(getClass(), page, selectors);
+        }
+    }
+
+    /**
+     * Get the memoized locator of a registered selector.
+     *
+     * @param selector a {@link Selector} constant of this page class
+     * @return the locator
+     * @throws IllegalArgumentException if the selector is not registered
+     */
+    protected Locator locator(final String selector) {
+        final Locator cached = locators.get(selector);
+        if (cached != null) {
+            return cached;
+        }
+        if (!selectors.containsValue(selector)) {
+            throw new IllegalArgumentException(String.format(
+                    "Selector '%s' is not declared with @Selector in %s", selector, getClass().getSimpleName()));
+        }
+        final Locator locator = page.locator(selector);
+        locators.put(selector, locator);
+        return locator;
+    }
+
+    /**
+     * Registered selectors of this page class by constant name.
+     *
+     * @return unmodifiable map of constant name to selector
+     */
+    public Map<String, String> getSelectors() {
+        return selectors;
+    }
+
+    private static Map<String, String> collectSelectors(final Class<?> type) {
+        final Map<String, String> result = new LinkedHashMap<>();
+        for (Class<?> current = type; current != null && current != BasePage.class;
+                current = current.getSuperclass()) {
+            for (final Field field : current.getDeclaredFields()) {
+                if (!field.isAnnotationPresent(Selector.class)) {
+                    continue;
+                }
+                if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class) {
+                    throw new IllegalStateException(String.format(
+                            "@Selector field %s.%s must be a static String", current.getSimpleName(), field.getName()));
+                }
+                try {
+                    field.setAccessible(true);
+                    final String selector = (String) field.get(null);
+                    if (selector == null || selector.isBlank()) {
+                        throw new IllegalStateException(String.format(
+                                "@Selector field %s.%s is empty", current.getSimpleName(), field.getName()));
+                    }
+                    result.putIfAbsent(field.getName(), selector);
+                } catch (final IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot read selector " + field.getName(), e);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static void validate(final Class<?> type, final Page page, final Map<String, String> selectors) {
+        final List<String> css = new ArrayList<>();
+        for (final String selector : selectors.values()) {
+            if (!PLAYWRIGHT_SELECTOR.matcher(selector).find()) {
+                css.add(selector);
+            }
+        }
+        if (!css.isEmpty()) {
+            final Object invalid = page.evaluate(VALIDATE_SCRIPT, css);
+            if (invalid instanceof List && !((List<?>) invalid).isEmpty()) {
+                final String message = String.format("Invalid selectors in %s: %s", type.getSimpleName(), invalid);
+                logger.error(message);
+                throw new IllegalStateException(message);
+            }
+        }
+        VALIDATED.add(type);
+        logger.debug("✓ Validated {} of {} selectors of {}", css.size(), selectors.size(), type.getSimpleName());
+    }
+}
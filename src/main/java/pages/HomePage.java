@@ -5,23 +5,33 @@ import com.microsoft.playwright.Page;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import utils.CommonFunction;
+import utils.ConfigReader;
 
 /**
  * Page Object for Home page.
  * Encapsulates all interactions and assertions for the home page.
  */
-public class HomePage {
+public class HomePage extends BasePage {
 
     private static final Logger logger = LoggerFactory.getLogger(HomePage.class);
-    private final Page page;
 
     // Locators
-    private final String WELCOME_MESSAGE = ".username";
-    private final String USER_NAME = ".username";
-    private final String LOGOUT_BUTTON = "#logoutButton";
+    @Selector
+    private static final String USER_NAME = ".username";
+    @Selector
+    private static final String LOGOUT_BUTTON = "#logoutButton";
 
     public HomePage(final Page page) {
-        this.page = page;
+        super(page);
+    }
+
+    /**
+     * Navigate to the home page directly, e.g. with cached authentication.
+     */
+    public void open() {
+        logger.info("Opening home page");
+        page.navigate(ConfigReader.getBaseUrl() + "/home.html");
+        logger.debug("✓ Home page opened");
     }
 
     /**
@@ -44,7 +54,7 @@ public class HomePage {
      */
     public String getUserName() {
         logger.debug("Getting user name from home page");
-        final Locator userNameElement = page.locator(USER_NAME);
+        final Locator userNameElement = locator(USER_NAME);
         CommonFunction.waitForElement(userNameElement, "User name element");
         return CommonFunction.getText(userNameElement);
     }
@@ -54,7 +64,7 @@ public class HomePage {
      */
     public void logout() {
         logger.info("Clicking logout button");
-        final Locator logoutBtn = page.locator(LOGOUT_BUTTON);
+        final Locator logoutBtn = locator(LOGOUT_BUTTON);
         CommonFunction.click(logoutBtn, "Logout button");
     }
 
@@ -2,29 +2,36 @@ package pages;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import utils.CommonFunction;
 import utils.ConfigReader;
+import utils.PagePerformance;
 
 /**
  * Page Object for Login page.
  * Encapsulates all interactions and assertions for the login page.
  */
-public class LoginPage {
+public class LoginPage extends BasePage {
 
     private static final Logger logger = LoggerFactory.getLogger(LoginPage.class);
-    private final Page page;
 
     // Locators
-    private final String EMAIL_INPUT = "#email";
-    private final String PASSWORD_INPUT = "#password";
-    private final String LOGIN_BUTTON = "#loginButton";
-    private final String ERROR_MESSAGE = ".error-message";
-    private final String SUCCESS_MESSAGE = ".success-message";
+    @Selector
+    private static final String EMAIL_INPUT = "#email";
+    @Selector
+    private static final String PASSWORD_INPUT = "#password";
+    @Selector
+    private static final String LOGIN_BUTTON = "#loginButton";
+    @Selector
+    private static final String ERROR_MESSAGE = ".error-message";
+    @Selector
+    private static final String SUCCESS_MESSAGE = ".success-message";
 
     public LoginPage(final Page page) {
-        this.page = page;
+        super(page);
     }
 
     /**
@@ -33,6 +40,9 @@ public class LoginPage {
     public void open() {
         logger.info("Opening login page");
         page.navigate(ConfigReader.getBaseUrl() + "/login.html");
+        if (PagePerformance.isEnabled()) {
+            PagePerformance.capture(page, "LoginPage");
+        }
         logger.debug("✓ Login page opened");
     }
 
@@ -43,7 +53,7 @@ public class LoginPage {
      */
     public void enterEmail(final String email) {
         logger.debug("Entering email: {}", email);
-        final Locator emailField = page.locator(EMAIL_INPUT);
+        final Locator emailField = locator(EMAIL_INPUT);
         CommonFunction.fill(emailField, email, "Email input field");
     }
 
@@ -54,7 +64,7 @@ public class LoginPage {
      */
     public void enterPassword(final String password) {
         logger.debug("Entering password");
-        final Locator passwordField = page.locator(PASSWORD_INPUT);
+        final Locator passwordField = locator(PASSWORD_INPUT);
         CommonFunction.fill(passwordField, password, "Password input field");
     }
 
@@ -63,7 +73,7 @@ public class LoginPage {
      */
     public void clickLoginButton() {
         logger.info("Clicking login button");
-        final Locator button = page.locator(LOGIN_BUTTON);
+        final Locator button = locator(LOGIN_BUTTON);
         CommonFunction.click(button, "Login button");
     }
 
@@ -75,9 +85,10 @@ public class LoginPage {
      */
     public void login(final String email, final String password) {
         logger.info("Logging in with email: {}", email);
-        enterEmail(email);
-        enterPassword(password);
-        clickLoginButton();
+        final Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(EMAIL_INPUT, email);
+        fields.put(PASSWORD_INPUT, password);
+        CommonFunction.fillForm(page, fields, LOGIN_BUTTON, "Login form");
     }
 
     /**
@@ -87,7 +98,7 @@ public class LoginPage {
      */
     public void verifyErrorMessage(final String expectedMessage) {
         logger.info("Verifying error message: {}", expectedMessage);
-        final Locator errorMsg = page.locator(ERROR_MESSAGE);
+        final Locator errorMsg = locator(ERROR_MESSAGE);
         CommonFunction.assertElementVisible(errorMsg, "Error message");
         CommonFunction.assertElementText(errorMsg, expectedMessage);
     }
@@ -97,7 +108,7 @@ public class LoginPage {
      */
     public void verifySuccessMessage() {
         logger.info("Verifying success message");
-        final Locator successMsg = page.locator(SUCCESS_MESSAGE);
+        final Locator successMsg = locator(SUCCESS_MESSAGE);
         CommonFunction.assertElementVisible(successMsg, "Success message");
     }
 
@@ -0,0 +1,16 @@
+package pages;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code static final String} selector constant of a page object.
+ * {@link BasePage} registers and validates the annotated selectors of a page
+ * class once, and only hands out locators for registered selectors.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Selector {
+}
@@ -0,0 +1,271 @@
+package pages.generator;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates page-object classes from HTML snapshots or live pages.
+ * Each page is loaded in headless Chromium and its interactive and
+ * identifiable elements are extracted with one script. Selectors are chosen
+ * in order of stability: a unique {@code data-testid}, a unique {@code id},
+ * then the ARIA role and accessible name. Every element becomes a
+ * {@link pages.Selector} constant of a {@link pages.BasePage} subclass with
+ * CommonFunction-based actions (enter/click/check/select, or get text and
+ * verify visibility).
+ *
+ * <p>
+ * A directory is processed in parallel: each worker thread owns its own
+ * Playwright instance and takes pages from a shared queue.
+ *
+ * <pre>
+ * mvn compile exec:java -Dexec.mainClass=pages.generator.PageObjectGenerator \
+ *     -Dexec.args="src/test/resources src/main/java pages.generated"
+ * </pre>
+ */
+public final class PageObjectGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageObjectGenerator.class);
+    private static final Gson gson = new Gson();
+
+    private static final String EXTRACT_SCRIPT = "() => {\n"
+            + "  const unique = sel => { try { return document.querySelectorAll(sel).length === 1; }"
+            + " catch (e) { return false; } };\n"
+            + "  const clean = s => (s || '').trim().replace(/\\s+/g, ' ');\n"
+            + "  const labelOf = el => clean((el.labels && el.labels[0] && el.labels[0].textContent)"
+            + " || el.getAttribute('aria-label') || el.getAttribute('placeholder') || el.getAttribute('name')"
+            + " || el.textContent);\n"
+            + "  const roleOf = el => el.getAttribute('role')"
+            + " || ({ A: 'link', BUTTON: 'button', SELECT: 'combobox', TEXTAREA: 'textbox' })[el.tagName]"
+            + " || (el.tagName === 'INPUT' ? ({ checkbox: 'checkbox', radio: 'radio', submit: 'button',"
+            + " button: 'button' })[el.type] || 'textbox' : null);\n"
+            + "  const out = [];\n"
+            + "  const elements = document.querySelectorAll("
+            + "'[data-testid], [id], input, button, select, textarea, a[href], [role]');\n"
+            + "  for (const el of elements) {\n"
+            + "    if (el.type === 'hidden' || ['HTML', 'BODY', 'SCRIPT', 'STYLE'].includes(el.tagName)) {"
+            + " continue; }\n"
+            + "    const testId = el.getAttribute('data-testid');\n"
+            + "    const role = roleOf(el);\n"
+            + "    const label = labelOf(el);\n"
+            + "    let selector = null;\n"
+            + "    let source = null;\n"
+            + "    if (testId && unique(`[data-testid=\"${testId}\"]`)) {\n"
+            + "      selector = `[data-testid=\"${testId}\"]`; source = testId;\n"
+            + "    } else if (el.id && /^[A-Za-z][\\w-]*$/.test(el.id) && unique('#' + el.id)) {\n"
+            + "      selector = '#' + el.id; source = el.id;\n"
+            + "    } else if (role && label && label.length <= 40) {\n"
+            + "      selector = `role=${role}[name=\"${label.replace(/\"/g, '\\\\\"')}\"]`; source = label;\n"
+            + "    }\n"
+            + "    if (selector) {\n"
+            + "      out.push({ selector: selector, source: source, tag: el.tagName.toLowerCase(),\n"
+            + "        type: (el.getAttribute('type') || '').toLowerCase(), role: role, label: label.slice(0, 60) });\n"
+            + "    }\n"
+            + "  }\n"
+            + "  return JSON.stringify(out);\n"
+            + "}";
+
+    private final Path outputDir;
+    private final String packageName;
+
+    /**
+     * Create a generator.
+     *
+     * @param outputDir   source root the classes are written to
+     * @param packageName package of the generated classes
+     */
+    public PageObjectGenerator(final Path outputDir, final String packageName) {
+        this.outputDir = outputDir;
+        this.packageName = packageName;
+    }
+
+    /**
+     * Generate page objects.
+     *
+     * @param args input (HTML file, directory of HTML files or http(s) URL),
+     *             output source root (default src/main/java) and package
+     *             (default pages.generated)
+     */
+    public static void main(final String[] args) {
+        if (args.length < 1) {
+            throw new IllegalArgumentException(
+                    "Usage: PageObjectGenerator <html file|directory|url> [output source root] [package]");
+        }
+        final Path output = Paths.get(args.length > 1 ? args[1] : "src/main/java");
+        final String packageName = args.length > 2 ? args[2] : "pages.generated";
+        final int threads = Integer.getInteger("generator.threads",
+                Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+        final List<String> written = new PageObjectGenerator(output, packageName)
+                .generate(inputs(args[0]), threads);
+        logger.info("✓ Generated {} page objects in {}",
+                written.size(), output.resolve(packageName.replace('.', '/')));
+    }
+
+    /**
+     * Expand the input argument into page locations.
+     *
+     * @param input an HTML file, a directory or an http(s) URL
+     * @return URLs to load
+     */
+    static List<String> inputs(final String input) {
+        if (input.startsWith("http://") || input.startsWith("https://")) {
+            return List.of(input);
+        }
+        final Path path = Paths.get(input);
+        if (!Files.isDirectory(path)) {
+            return List.of(path.toAbsolutePath().toUri().toString());
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            return files.filter(file -> file.toString().endsWith(".html"))
+                    .sorted()
+                    .map(file -> file.toAbsolutePath().toUri().toString())
+                    .collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new RuntimeException("Failed to list HTML files in " + path, e);
+        }
+    }
+
+    /**
+     * Generate one page object per page, with a pool of worker threads that
+     * each own a browser. Class names are assigned from the sorted URLs
+     * before any page loads, so the same pages always get the same names.
+     *
+     * @param urls    pages to load
+     * @param threads number of worker threads
+     * @return paths of the written source files, sorted
+     */
+    public List<String> generate(final List<String> urls, final int threads) {
+        final Queue<Map.Entry<String, String>> queue = new ConcurrentLinkedQueue<>(classNames(urls).entrySet());
+        final Queue<String> written = new ConcurrentLinkedQueue<>();
+        final AtomicInteger failures = new AtomicInteger();
+        final List<Thread> workers = new ArrayList<>();
+
+        for (int i = 0; i < Math.max(1, Math.min(threads, urls.size())); i++) {
+            final Thread worker = new Thread(() -> {
+                try (Playwright playwright = Playwright.create()) {
+                    final Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+                            .setHeadless(true));
+                    Map.Entry<String, String> next;
+                    while ((next = queue.poll()) != null) {
+                        try {
+                            written.add(generate(browser, next.getKey(), next.getValue()).toString());
+                        } catch (final IOException | RuntimeException e) {
+                            failures.incrementAndGet();
+                            logger.error("Failed to generate page object for {}", next.getKey(), e);
+                        }
+                    }
+                }
+            }, "page-generator-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        for (final Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while generating page objects", e);
+            }
+        }
+
+        if (failures.get() > 0) {
+            throw new RuntimeException(failures.get() + " of " + urls.size() + " pages could not be generated");
+        }
+        return written.stream().sorted().collect(Collectors.toList());
+    }
+
+    private Path generate(final Browser browser, final String url, final String className) throws IOException {
+        final List<PageElement> elements;
+        final Page page = browser.newPage();
+        try {
+            page.navigate(url);
+            elements = gson.fromJson((String) page.evaluate(EXTRACT_SCRIPT),
+                    new TypeToken<List<PageElement>>() {
+                    }.getType());
+        } finally {
+            page.close();
+        }
+
+        final Path file = outputDir.resolve(packageName.replace('.', '/')).resolve(className + ".java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, PageObjectWriter.write(packageName, className, displayName(url), elements),
+                StandardCharsets.UTF_8);
+        logger.info("✓ {} -> {} ({} elements)", url, file, elements.size());
+        return file;
+    }
+
+    /**
+     * Local files are shown relative to the working directory so generated
+     * sources do not contain machine-specific paths.
+     */
+    private static String displayName(final String url) {
+        if (!url.startsWith("file:")) {
+            return url;
+        }
+        final Path file = Paths.get(URI.create(url));
+        final Path cwd = Paths.get("").toAbsolutePath();
+        return file.startsWith(cwd)
+                ? cwd.relativize(file).toString().replace('\\', '/')
+                : file.getFileName().toString();
+    }
+
+    private static Map<String, String> classNames(final List<String> urls) {
+        final Set<String> used = new HashSet<>();
+        final Map<String, String> names = new LinkedHashMap<>();
+        urls.stream().sorted().distinct().forEach(url -> names.put(url, uniqueClassName(url, used)));
+        return names;
+    }
+
+    private static String uniqueClassName(final String url, final Set<String> used) {
+        String path = url.replaceAll("[?#].*$", "").replaceAll("/+$", "");
+        path = path.substring(path.lastIndexOf('/') + 1).replaceAll("\\.html?$", "");
+        String base = PageObjectWriter.pascalCase(PageObjectWriter.words(path));
+        if (base.isEmpty() || !Character.isJavaIdentifierStart(base.charAt(0))) {
+            base = "Generated" + base;
+        }
+        if (!base.toLowerCase(Locale.ROOT).endsWith("page")) {
+            base += "Page";
+        }
+        String name = base;
+        for (int i = 2; !used.add(name); i++) {
+            name = base + i;
+        }
+        return name;
+    }
+
+    /**
+     * An element extracted from a page.
+     */
+    static final class PageElement {
+        String selector;
+        String source;
+        String tag;
+        String type;
+        String role;
+        String label;
+    }
+}
@@ -0,0 +1,208 @@
+package pages.generator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Renders extracted page elements as page-object source code.
+ */
+final class PageObjectWriter {
+
+    private PageObjectWriter() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * What the generated methods do with an element.
+     */
+    enum Kind {
+        FIELD("INPUT", "input field"),
+        TOGGLE("CHECKBOX", "checkbox"),
+        SELECT("SELECT", "dropdown"),
+        BUTTON("BUTTON", "button"),
+        LINK("LINK", "link"),
+        ELEMENT("ELEMENT", "element");
+
+        final String suffix;
+        final String noun;
+
+        Kind(final String suffix, final String noun) {
+            this.suffix = suffix;
+            this.noun = noun;
+        }
+
+        static Kind of(final PageObjectGenerator.PageElement element) {
+            final String role = element.role != null ? element.role : "";
+            if ("checkbox".equals(role) || "radio".equals(role)) {
+                return TOGGLE;
+            }
+            if ("select".equals(element.tag) || "combobox".equals(role) || "listbox".equals(role)) {
+                return SELECT;
+            }
+            if ("textbox".equals(role) || "searchbox".equals(role)) {
+                return FIELD;
+            }
+            if ("button".equals(role)) {
+                return BUTTON;
+            }
+            if ("link".equals(role)) {
+                return LINK;
+            }
+            return ELEMENT;
+        }
+    }
+
+    /**
+     * Render a page-object class.
+     *
+     * @param packageName the package
+     * @param className   the class name
+     * @param source      the page the class was generated from
+     * @param elements    the extracted elements
+     * @return Java source code
+     */
+    static String write(
+            final String packageName,
+            final String className,
+            final String source,
+            final List<PageObjectGenerator.PageElement> elements) {
+        final Set<String> constants = new HashSet<>();
+        final List<String> fields = new ArrayList<>();
+        final List<String> methods = new ArrayList<>();
+        boolean usesLocator = false;
+
+        for (final PageObjectGenerator.PageElement element : elements) {
+            final Kind kind = Kind.of(element);
+            final List<String> words = withoutSuffix(words(element.source), kind);
+            if (words.isEmpty()) {
+                continue;
+            }
+            String constant = String.join("_", words).toUpperCase(Locale.ROOT) + "_" + kind.suffix;
+            if (!Character.isJavaIdentifierStart(constant.charAt(0))) {
+                constant = "E_" + constant;
+            }
+            final String base = constant;
+            for (int i = 2; !constants.add(constant); i++) {
+                constant = base + "_" + i;
+            }
+
+            final String name = pascalCase(words)
+                    + (constant.equals(base) ? "" : constant.substring(base.length() + 1));
+            final String description = javaString(capitalize(String.join(" ", words).toLowerCase(Locale.ROOT))
+                    + " " + kind.noun);
+            fields.add(String.format("    @Selector%n    private static final String %s = %s;%n",
+                    constant, javaString(element.selector)));
+            methods.add(method(kind, name, constant, description));
+            usesLocator |= kind == Kind.ELEMENT;
+        }
+
+        final StringBuilder java = new StringBuilder();
+        java.append("package ").append(packageName).append(";\n\n");
+        if (usesLocator) {
+            java.append("import com.microsoft.playwright.Locator;\n");
+        }
+        java.append("import com.microsoft.playwright.Page;\n")
+                .append("import pages.BasePage;\n")
+                .append("import pages.Selector;\n")
+                .append("import utils.CommonFunction;\n\n")
+                .append("/**\n")
+                .append(" * Page Object generated from ").append(source.replace("*/", "*&#47;")).append(".\n")
+                .append(" * Generated by PageObjectGenerator - regenerate instead of editing.\n")
+                .append(" */\n")
+                .append("public class ").append(className).append(" extends BasePage {\n\n")
+                .append("    // Locators\n");
+        fields.forEach(java::append);
+        java.append("\n    public ").append(className).append("(final Page page) {\n")
+                .append("        super(page);\n")
+                .append("    }\n");
+        methods.forEach(method -> java.append('\n').append(method));
+        java.append("}\n");
+        return java.toString();
+    }
+
+    private static String method(final Kind kind, final String name, final String constant, final String description) {
+        final StringBuilder method = new StringBuilder();
+        switch (kind) {
+            case FIELD:
+                method.append(String.format("    public void enter%s(final String value) {%n", name))
+                        .append(String.format("        CommonFunction.fill(locator(%s), value, %s);%n",
+                                constant, description));
+                break;
+            case TOGGLE:
+                method.append(String.format("    public void check%s() {%n", name))
+                        .append(String.format("        CommonFunction.check(locator(%s), %s);%n",
+                                constant, description));
+                break;
+            case SELECT:
+                method.append(String.format("    public void select%s(final String label) {%n", name))
+                        .append(String.format("        CommonFunction.selectByLabel(locator(%s), label, %s);%n",
+                                constant, description));
+                break;
+            case BUTTON:
+            case LINK:
+                method.append(String.format("    public void click%s() {%n", name))
+                        .append(String.format("        CommonFunction.click(locator(%s), %s);%n",
+                                constant, description));
+                break;
+            default:
+                method.append(String.format("    public String get%sText() {%n", name))
+                        .append(String.format("        final Locator element = locator(%s);%n", constant))
+                        .append(String.format("        CommonFunction.waitForElement(element, %s);%n", description))
+                        .append("        return CommonFunction.getText(element);\n")
+                        .append("    }\n\n")
+                        .append(String.format("    public void verify%sVisible() {%n", name))
+                        .append(String.format("        CommonFunction.assertElementVisible(locator(%s), %s);%n",
+                                constant, description));
+                break;
+        }
+        method.append("    }\n");
+        return method.toString();
+    }
+
+    /**
+     * Split an id, test id or label into lower-case words
+     * ({@code loginButton}, {@code login-button} and {@code Login button}
+     * all give login, button).
+     *
+     * @param text the text
+     * @return the words, without non-alphanumeric characters
+     */
+    static List<String> words(final String text) {
+        final List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        final String spaced = text.replaceAll("([a-z0-9])([A-Z])", "$1 $2");
+        for (final String word : spaced.split("[^A-Za-z0-9]+")) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase(Locale.ROOT));
+            }
+        }
+        return words.size() > 6 ? words.subList(0, 6) : words;
+    }
+
+    static String pascalCase(final List<String> words) {
+        final StringBuilder result = new StringBuilder();
+        words.forEach(word -> result.append(capitalize(word)));
+        return result.toString();
+    }
+
+    private static List<String> withoutSuffix(final List<String> words, final Kind kind) {
+        final List<String> result = new ArrayList<>(words);
+        if (!result.isEmpty() && result.get(result.size() - 1).equalsIgnoreCase(kind.suffix)) {
+            result.remove(result.size() - 1);
+        }
+        return result.isEmpty() ? words : result;
+    }
+
+    private static String capitalize(final String word) {
+        return word.isEmpty() ? word : Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    private static String javaString(final String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
@@ -0,0 +1,529 @@
+package utils;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.Response;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Site-wide accessibility audit: crawls same-origin links breadth-first from
+ * a start URL and scans every distinct page with axe.
+ *
+ * <p>
+ * URLs are normalized (no fragment, lower-case scheme and host, no default
+ * port) and each one is visited once, including the final URL of redirects.
+ * Pages whose DOM structure hashes the same as an already scanned page
+ * (e.g. the same template with other query parameters) are not scanned
+ * again, but their links are still followed. Worker threads each own a
+ * Playwright instance and browser context and share one queue; navigations
+ * across all workers are rate limited.
+ *
+ * <p>
+ * Every scanned page is checked like {@link AccessibilityUtil#scan(Page, String)},
+ * using its path as the page name for the whitelist. The consolidated report
+ * is written to target/a11y-reports/crawl-report.json; blocking violations
+ * fail the crawl after the report is written when
+ * {@code a11y.violation.strict.mode} is set.
+ *
+ * <pre>
+ * AccessibilityCrawler.CrawlReport report = AccessibilityCrawler.fromConfig()
+ *         .setMaxPages(50)
+ *         .crawl(ConfigReader.getBaseUrl() + "/");
+ * </pre>
+ *
+ * <p>
+ * Defaults come from {@code a11y.crawl.max.pages}, {@code a11y.crawl.max.depth},
+ * {@code a11y.crawl.threads} and {@code a11y.crawl.rate.per.second}.
+ */
+public final class AccessibilityCrawler {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessibilityCrawler.class);
+    private static final Gson gson = new Gson();
+    private static final Path REPORT_FILE = Paths.get("target", "a11y-reports", "crawl-report.json");
+    private static final Pattern NON_HTML = Pattern.compile(
+            "(?i).*\\.(pdf|zip|gz|png|jpe?g|gif|svg|ico|webp|css|js|json|xml|txt|mp4|mp3|woff2?)$");
+
+    private static final String LINKS_SCRIPT = "() => JSON.stringify([...document.querySelectorAll("
+            + "'a[href]:not([download]), area[href]')].map(a => a.href))";
+
+    /**
+     * FNV-1a hash of the page structure: tag names with id, role, type and
+     * class attributes, without text, so pages built from the same template
+     * hash the same.
+     */
+    private static final String DOM_HASH_SCRIPT = "() => {\n"
+            + "  let hash = 0x811c9dc5;\n"
+            + "  const add = text => {\n"
+            + "    for (let i = 0; i < text.length; i++) {\n"
+            + "      hash ^= text.charCodeAt(i);\n"
+            + "      hash = Math.imul(hash, 0x01000193);\n"
+            + "    }\n"
+            + "  };\n"
+            + "  for (const el of document.querySelectorAll('body *')) {\n"
+            + "    add(el.tagName);\n"
+            + "    for (const name of ['id', 'role', 'type', 'class']) {\n"
+            + "      const value = el.getAttribute(name);\n"
+            + "      if (value) { add(name + '=' + value); }\n"
+            + "    }\n"
+            + "    add('|');\n"
+            + "  }\n"
+            + "  return (hash >>> 0).toString(16);\n"
+            + "}";
+
+    private int maxPages = ConfigReader.getInt("a11y.crawl.max.pages", 100);
+    private int maxDepth = ConfigReader.getInt("a11y.crawl.max.depth", 3);
+    private int threads = ConfigReader.getInt("a11y.crawl.threads", 4);
+    private double ratePerSecond = Double.parseDouble(ConfigReader.get("a11y.crawl.rate.per.second", "5"));
+
+    private AccessibilityCrawler() {
+    }
+
+    /**
+     * Create a crawler with the configured defaults.
+     *
+     * @return a new crawler
+     */
+    public static AccessibilityCrawler fromConfig() {
+        return new AccessibilityCrawler();
+    }
+
+    public AccessibilityCrawler setMaxPages(final int maxPages) {
+        this.maxPages = Math.max(1, maxPages);
+        return this;
+    }
+
+    public AccessibilityCrawler setMaxDepth(final int maxDepth) {
+        this.maxDepth = Math.max(0, maxDepth);
+        return this;
+    }
+
+    public AccessibilityCrawler setThreads(final int threads) {
+        this.threads = Math.max(1, threads);
+        return this;
+    }
+
+    /**
+     * Limit navigations across all workers.
+     *
+     * @param ratePerSecond page loads per second (0 or less for no limit)
+     * @return this crawler
+     */
+    public AccessibilityCrawler setRatePerSecond(final double ratePerSecond) {
+        this.ratePerSecond = ratePerSecond;
+        return this;
+    }
+
+    /**
+     * Crawl from a start URL and scan every distinct same-origin page.
+     *
+     * @param startUrl the first page (e.g. {@code ConfigReader.getBaseUrl() + "/"})
+     * @return the consolidated report
+     * @throws AssertionError if pages have blocking violations and
+     *                        {@code a11y.violation.strict.mode} is set
+     */
+    public CrawlReport crawl(final String startUrl) {
+        final String start = normalize(startUrl);
+        if (start == null) {
+            throw new IllegalArgumentException("Not an http(s) URL: " + startUrl);
+        }
+        logger.info("Starting accessibility crawl: {} (max {} pages, depth {}, {} workers)",
+                start, maxPages, maxDepth, threads);
+
+        final Crawl crawl = new Crawl(URI.create(start));
+        crawl.offer(start, 0);
+        final long crawlStart = System.currentTimeMillis();
+        final List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < Math.min(threads, maxPages); i++) {
+            final Thread worker = new Thread(() -> work(crawl), "a11y-crawler-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        for (final Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while crawling " + start, e);
+            }
+        }
+
+        final List<PageResult> pages = new ArrayList<>(crawl.results);
+        pages.sort(Comparator.comparingInt(PageResult::getDepth).thenComparing(PageResult::getUrl));
+        final CrawlReport report = new CrawlReport(start, pages, System.currentTimeMillis() - crawlStart);
+        writeReport(report);
+        AccessibilityReportStore.write();
+        logger.info("✓ Accessibility crawl finished: {} pages scanned, {} duplicates, {} errors, "
+                + "{} violations in {} ms", report.count("scanned"), report.count("duplicate"), report.count("error"),
+                report.getViolations().size(), report.getDurationMs());
+
+        if (!crawl.blocking.isEmpty()) {
+            throw new AssertionError("Accessibility blocking issues found on " + crawl.blocking.size()
+                    + " crawled pages: " + String.join("; ", crawl.blocking));
+        }
+        return report;
+    }
+
+    private void work(final Crawl crawl) {
+        try (Playwright playwright = Playwright.create()) {
+            final Browser browser = launch(playwright);
+            final BrowserContext context = browser.newContext();
+            final Page page = context.newPage();
+            while (crawl.pending.get() > 0) {
+                final Task task;
+                try {
+                    task = crawl.queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (task == null) {
+                    continue;
+                }
+                try {
+                    crawl.results.add(visit(crawl, page, task));
+                } catch (final RuntimeException e) {
+                    logger.error("Failed to crawl {}", task.url, e);
+                    crawl.results.add(new PageResult(task.url, task.depth, "error", null, null, List.of(),
+                            e.getMessage()));
+                } finally {
+                    crawl.pending.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private PageResult visit(final Crawl crawl, final Page page, final Task task) {
+        crawl.rateLimiter.acquire();
+        final Response response = page.navigate(task.url);
+        if (response != null && response.status() >= 400) {
+            return new PageResult(task.url, task.depth, "error", null, null, List.of(), "HTTP " + response.status());
+        }
+
+        final String finalUrl = normalize(page.url());
+        if (finalUrl != null && !finalUrl.equals(task.url) && !crawl.seen.add(finalUrl)) {
+            return new PageResult(task.url, task.depth, "duplicate", finalUrl, null, List.of(), null);
+        }
+
+        if (task.depth < maxDepth) {
+            final List<String> links = gson.fromJson((String) page.evaluate(LINKS_SCRIPT),
+                    new TypeToken<List<String>>() {
+                    }.getType());
+            links.forEach(link -> crawl.offer(link, task.depth + 1));
+        }
+
+        final String domHash = (String) page.evaluate(DOM_HASH_SCRIPT);
+        final String original = crawl.hashes.putIfAbsent(domHash, task.url);
+        if (original != null) {
+            return new PageResult(task.url, task.depth, "duplicate", original, domHash, List.of(), null);
+        }
+
+        final String pageName = pageName(task.url);
+        final List<AccessibilityUtil.Violation> violations = AccessibilityUtil.collect(page, pageName);
+        try {
+            AccessibilityUtil.check(pageName, violations);
+        } catch (final AssertionError e) {
+            crawl.blocking.add(e.getMessage());
+        }
+        AccessibilityReportStore.record(page.url(), pageName, violations, -1, -1);
+        return new PageResult(task.url, task.depth, "scanned", null, domHash, violations, null);
+    }
+
+    private static Browser launch(final Playwright playwright) {
+        final BrowserType.LaunchOptions options = new BrowserType.LaunchOptions()
+                .setHeadless(ConfigReader.getBoolean("headless", true));
+        switch (ConfigReader.get("browser", "chromium").toLowerCase(Locale.ROOT)) {
+            case "firefox":
+                return playwright.firefox().launch(options);
+            case "webkit":
+                return playwright.webkit().launch(options);
+            default:
+                return playwright.chromium().launch(options);
+        }
+    }
+
+    private static void writeReport(final CrawlReport report) {
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.writeString(REPORT_FILE, gson.toJson(report), StandardCharsets.UTF_8);
+            logger.info("✓ Accessibility crawl report generated: {}", REPORT_FILE);
+        } catch (final IOException e) {
+            logger.error("Failed to write accessibility crawl report", e);
+        }
+    }
+
+    /**
+     * Normalize a URL for deduplication.
+     *
+     * @param url the URL
+     * @return the URL without fragment or default port, with lower-case
+     *         scheme and host and a non-empty path, or null if it is not an
+     *         http(s) URL
+     */
+    static String normalize(final String url) {
+        final URI uri;
+        try {
+            uri = URI.create(url.trim()).normalize();
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+        final String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : "";
+        if (!("http".equals(scheme) || "https".equals(scheme)) || uri.getHost() == null) {
+            return null;
+        }
+        final int port = ("http".equals(scheme) && uri.getPort() == 80)
+                || ("https".equals(scheme) && uri.getPort() == 443) ? -1 : uri.getPort();
+        final String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return scheme + "://" + uri.getHost().toLowerCase(Locale.ROOT) + (port != -1 ? ":" + port : "")
+                + path + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "");
+    }
+
+    private static String pageName(final String url) {
+        final URI uri = URI.create(url);
+        return uri.getRawPath() + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "");
+    }
+
+    /**
+     * Shared state of one crawl.
+     */
+    private final class Crawl {
+        final URI origin;
+        final BlockingQueue<Task> queue = new LinkedBlockingQueue<>();
+        final Set<String> seen = ConcurrentHashMap.newKeySet();
+        final Map<String, String> hashes = new ConcurrentHashMap<>();
+        final Queue<PageResult> results = new ConcurrentLinkedQueue<>();
+        final Queue<String> blocking = new ConcurrentLinkedQueue<>();
+        final AtomicInteger pending = new AtomicInteger();
+        final AtomicInteger accepted = new AtomicInteger();
+        final RateLimiter rateLimiter = new RateLimiter(ratePerSecond);
+
+        Crawl(final URI origin) {
+            this.origin = origin;
+        }
+
+        /**
+         * Queue a link if it is a same-origin HTML page that was not seen
+         * yet and the page limit is not reached.
+         */
+        void offer(final String link, final int depth) {
+            final String url = normalize(link);
+            if (url == null) {
+                return;
+            }
+            final URI uri = URI.create(url);
+            if (!uri.getScheme().equals(origin.getScheme()) || !uri.getHost().equals(origin.getHost())
+                    || uri.getPort() != origin.getPort() || NON_HTML.matcher(uri.getRawPath()).matches()) {
+                return;
+            }
+            if (!seen.add(url)) {
+                return;
+            }
+            if (accepted.incrementAndGet() > maxPages) {
+                logger.debug("Page limit {} reached - not crawling {}", maxPages, url);
+                return;
+            }
+            pending.incrementAndGet();
+            queue.add(new Task(url, depth));
+        }
+    }
+
+    private static final class Task {
+        final String url;
+        final int depth;
+
+        Task(final String url, final int depth) {
+            this.url = url;
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * Spaces navigations at least {@code 1 / ratePerSecond} apart across
+     * threads.
+     */
+    private static final class RateLimiter {
+        private final long intervalNanos;
+        private long next = System.nanoTime();
+
+        RateLimiter(final double ratePerSecond) {
+            this.intervalNanos = ratePerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond) : 0;
+        }
+
+        void acquire() {
+            if (intervalNanos == 0) {
+                return;
+            }
+            final long waitNanos;
+            synchronized (this) {
+                final long now = System.nanoTime();
+                next = Math.max(next, now);
+                waitNanos = next - now;
+                next += intervalNanos;
+            }
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting to crawl", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Outcome of one crawled URL.
+     */
+    public static final class PageResult {
+        private final String url;
+        private final int depth;
+        private final String status;
+        private final String duplicateOf;
+        private final String domHash;
+        private final List<AccessibilityUtil.Violation> violations;
+        private final String error;
+
+        PageResult(
+                final String url,
+                final int depth,
+                final String status,
+                final String duplicateOf,
+                final String domHash,
+                final List<AccessibilityUtil.Violation> violations,
+                final String error) {
+            this.url = url;
+            this.depth = depth;
+            this.status = status;
+            this.duplicateOf = duplicateOf;
+            this.domHash = domHash;
+            this.violations = violations;
+            this.error = error;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Status of the URL.
+         *
+         * @return scanned, duplicate (same final URL or DOM hash as
+         *         {@link #getDuplicateOf()}) or error
+         */
+        public String getStatus() {
+            return status;
+        }
+
+        public String getDuplicateOf() {
+            return duplicateOf;
+        }
+
+        public String getDomHash() {
+            return domHash;
+        }
+
+        public List<AccessibilityUtil.Violation> getViolations() {
+            return violations;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+
+    /**
+     * Consolidated result of a crawl.
+     */
+    public static final class CrawlReport {
+        private final String startUrl;
+        private final List<PageResult> pages;
+        private final long durationMs;
+
+        CrawlReport(final String startUrl, final List<PageResult> pages, final long durationMs) {
+            this.startUrl = startUrl;
+            this.pages = pages;
+            this.durationMs = durationMs;
+        }
+
+        public String getStartUrl() {
+            return startUrl;
+        }
+
+        /**
+         * Crawled URLs, by depth and URL.
+         *
+         * @return the page results
+         */
+        public List<PageResult> getPages() {
+            return pages;
+        }
+
+        public long getDurationMs() {
+            return durationMs;
+        }
+
+        /**
+         * Count pages with a status.
+         *
+         * @param status scanned, duplicate or error
+         * @return the number of pages
+         */
+        public long count(final String status) {
+            return pages.stream().filter(page -> status.equals(page.getStatus())).count();
+        }
+
+        /**
+         * Violations of all scanned pages.
+         *
+         * @return the violations, in page order
+         */
+        public List<AccessibilityUtil.Violation> getViolations() {
+            return pages.stream().flatMap(page -> page.getViolations().stream()).collect(Collectors.toList());
+        }
+
+        /**
+         * Number of violating elements per rule over all scanned pages.
+         *
+         * @return counts by rule id, most frequent first
+         */
+        public Map<String, Long> countByRule() {
+            return getViolations().stream()
+                    .collect(Collectors.groupingBy(AccessibilityUtil.Violation::getRuleId, Collectors.counting()))
+                    .entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a,
+                            LinkedHashMap::new));
+        }
+    }
+}
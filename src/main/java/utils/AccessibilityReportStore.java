@@ -0,0 +1,274 @@
+package utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Run-level store of accessibility scan results, replacing one report file
+ * per scan. All scans of a run (page, element, incremental and crawl scans)
+ * go into three files in target/a11y-reports:
+ * <ul>
+ * <li>violations.jsonl - one compact JSON line per violating element: page,
+ * scan name, rule, impact and target. An element is written once per page
+ * and rule however often the page is scanned.</li>
+ * <li>a11y-index.json - the same violations indexed by rule (impact, help,
+ * element count, pages) and by page (scans, passes, element count per
+ * rule), with the line numbers of their records in violations.jsonl.</li>
+ * <li>a11y-report.html - a rollup of both indexes, worst rules first.</li>
+ * </ul>
+ * Pages are identified by the path of their URL, so scans of the same page
+ * under different names (or of elements on it) share one entry, and
+ * different pages scanned under the same name do not; the names each page
+ * was scanned under are kept alongside.
+ * Lines are appended as scans finish; the index and rollup are rewritten by
+ * {@link #write()} at the end of a run.
+ */
+public final class AccessibilityReportStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessibilityReportStore.class);
+    private static final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+    private static final Path REPORTS_DIR = Paths.get("target", "a11y-reports");
+    private static final Path LOG_FILE = REPORTS_DIR.resolve("violations.jsonl");
+    private static final Path INDEX_FILE = REPORTS_DIR.resolve("a11y-index.json");
+    private static final Path HTML_FILE = REPORTS_DIR.resolve("a11y-report.html");
+    private static final List<String> IMPACT_ORDER = List.of("critical", "serious", "moderate", "minor");
+
+    private static final Set<String> recorded = new HashSet<>();
+    private static final Map<String, RuleEntry> rules = new TreeMap<>();
+    private static final Map<String, PageEntry> pages = new TreeMap<>();
+    private static boolean started;
+    private static int lines;
+    private static int scans;
+
+    private AccessibilityReportStore() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Record one scan. The first scan of the run replaces the previous run's
+     * log.
+     *
+     * @param url          URL of the scanned page
+     * @param name         name of the scanned page or element
+     * @param violations   violations found by the scan
+     * @param passes       number of rules that passed, or -1 if unknown
+     * @param inapplicable number of rules that did not apply, or -1 if unknown
+     */
+    static synchronized void record(
+            final String url,
+            final String name,
+            final List<AccessibilityUtil.Violation> violations,
+            final int passes,
+            final int inapplicable) {
+        scans++;
+        final String page = pathOf(url);
+        final PageEntry pageEntry = pages.computeIfAbsent(page, key -> new PageEntry());
+        pageEntry.scans++;
+        pageEntry.names.add(name);
+        if (passes >= 0) {
+            pageEntry.passes = passes;
+            pageEntry.inapplicable = inapplicable;
+        }
+
+        final List<Record> fresh = new ArrayList<>();
+        for (final AccessibilityUtil.Violation violation : violations) {
+            if (!recorded.add(page + "|" + violation.key())) {
+                continue;
+            }
+            final Record record = new Record(page, name, violation);
+            fresh.add(record);
+
+            final int line = lines + fresh.size();
+            final RuleEntry rule = rules.computeIfAbsent(violation.getRuleId(), key -> new RuleEntry());
+            rule.impact = worse(rule.impact, record.impact);
+            rule.help = violation.getHelp();
+            rule.elements++;
+            rule.pages.add(page);
+            rule.lines.add(line);
+            pageEntry.rules.merge(violation.getRuleId(), 1, Integer::sum);
+            pageEntry.elements++;
+            pageEntry.lines.add(line);
+        }
+
+        try {
+            Files.createDirectories(REPORTS_DIR);
+            try (BufferedWriter writer = Files.newBufferedWriter(LOG_FILE, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    started ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (final Record record : fresh) {
+                    writer.write(gson.toJson(record));
+                    writer.write('\n');
+                }
+            }
+            started = true;
+            lines += fresh.size();
+        } catch (final IOException e) {
+            logger.error("Failed to append accessibility violations: {}", LOG_FILE, e);
+        }
+    }
+
+    /**
+     * Write the index and the HTML rollup of everything recorded so far.
+     * Does nothing if no scan was recorded.
+     */
+    public static synchronized void write() {
+        if (scans == 0) {
+            return;
+        }
+        final Map<String, Object> index = new LinkedHashMap<>();
+        index.put("generated", Instant.now().toString());
+        index.put("log", LOG_FILE.getFileName().toString());
+        index.put("scans", scans);
+        index.put("violations", lines);
+        index.put("rules", rules);
+        index.put("pages", pages);
+        try {
+            Files.createDirectories(REPORTS_DIR);
+            Files.writeString(INDEX_FILE, gson.toJson(index), StandardCharsets.UTF_8);
+            Files.writeString(HTML_FILE, html(), StandardCharsets.UTF_8);
+            logger.info("✓ Accessibility report generated: {} ({} scans, {} violations, {} rules)",
+                    HTML_FILE, scans, lines, rules.size());
+        } catch (final IOException e) {
+            logger.error("Failed to write accessibility report", e);
+        }
+    }
+
+    private static String html() {
+        final List<Map.Entry<String, RuleEntry>> byRule = new ArrayList<>(rules.entrySet());
+        byRule.sort((a, b) -> a.getValue().impact.equals(b.getValue().impact)
+                ? Integer.compare(b.getValue().elements, a.getValue().elements)
+                : Integer.compare(rank(a.getValue().impact), rank(b.getValue().impact)));
+
+        final StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n");
+        html.append("<html lang=\"en\">\n");
+        html.append("<head>\n");
+        html.append("    <meta charset=\"UTF-8\">\n");
+        html.append("    <title>Accessibility Report</title>\n");
+        html.append("    <style>\n");
+        html.append("        body { font-family: Arial, sans-serif; margin: 20px; color: #333; }\n");
+        html.append("        h1 { border-bottom: 3px solid #007bff; padding-bottom: 10px; }\n");
+        html.append("        table { width: 100%; border-collapse: collapse; margin-top: 20px; }\n");
+        html.append("        th { background-color: #007bff; color: white; padding: 10px; text-align: left; }\n");
+        html.append("        td { padding: 8px; border-bottom: 1px solid #ddd; vertical-align: top; }\n");
+        html.append("        .critical, .serious { color: #dc3545; font-weight: bold; }\n");
+        html.append("        .moderate { color: #fd7e14; font-weight: bold; }\n");
+        html.append("    </style>\n");
+        html.append("</head>\n");
+        html.append("<body>\n");
+        html.append("    <h1>Accessibility Report</h1>\n");
+        html.append(String.format("    <p>%d scans of %d pages: %d violating elements for %d rules. "
+                + "Details in %s.</p>%n", scans, pages.size(), lines, rules.size(), LOG_FILE.getFileName()));
+
+        html.append("    <h2>By rule</h2>\n");
+        html.append("    <table>\n");
+        html.append("        <tr><th>Rule</th><th>Impact</th><th>Elements</th><th>Pages</th><th>Help</th></tr>\n");
+        for (final Map.Entry<String, RuleEntry> entry : byRule) {
+            final RuleEntry rule = entry.getValue();
+            html.append(String.format("        <tr><td>%s</td><td class=\"%s\">%s</td><td>%d</td><td>%s</td>"
+                    + "<td>%s</td></tr>%n", escapeHtml(entry.getKey()), rule.impact, rule.impact, rule.elements,
+                    escapeHtml(String.join(", ", rule.pages)), escapeHtml(rule.help != null ? rule.help : "")));
+        }
+        html.append("    </table>\n");
+
+        html.append("    <h2>By page</h2>\n");
+        html.append("    <table>\n");
+        html.append("        <tr><th>Page</th><th>Names</th><th>Scans</th><th>Passes</th><th>Elements</th>"
+                + "<th>Rules</th></tr>\n");
+        for (final Map.Entry<String, PageEntry> entry : pages.entrySet()) {
+            final PageEntry page = entry.getValue();
+            final List<String> pageRules = new ArrayList<>();
+            page.rules.forEach((rule, count) -> pageRules.add(rule + " (" + count + ")"));
+            html.append(String.format("        <tr><td>%s</td><td>%s</td><td>%d</td><td>%s</td><td>%d</td>"
+                    + "<td>%s</td></tr>%n", escapeHtml(entry.getKey()), escapeHtml(String.join(", ", page.names)),
+                    page.scans, page.passes >= 0 ? page.passes : "-", page.elements,
+                    escapeHtml(String.join(", ", pageRules))));
+        }
+        html.append("    </table>\n");
+        html.append("</body>\n");
+        html.append("</html>\n");
+        return html.toString();
+    }
+
+    /**
+     * The path of a page URL, without query or fragment; URLs without a path
+     * (e.g. about:blank) are used whole.
+     */
+    static String pathOf(final String url) {
+        try {
+            final String path = URI.create(url).getPath();
+            return path == null || path.isEmpty() ? url : path;
+        } catch (final IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    private static String worse(final String current, final String impact) {
+        return current == null || rank(impact) < rank(current) ? impact : current;
+    }
+
+    private static int rank(final String impact) {
+        final int rank = IMPACT_ORDER.indexOf(impact);
+        return rank >= 0 ? rank : IMPACT_ORDER.size();
+    }
+
+    private static String escapeHtml(final String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    /**
+     * One line of violations.jsonl.
+     */
+    private static final class Record {
+        final String page;
+        final String name;
+        final String rule;
+        final String impact;
+        final List<String> target;
+
+        Record(final String page, final String name, final AccessibilityUtil.Violation violation) {
+            this.page = page;
+            this.name = name;
+            this.rule = violation.getRuleId();
+            this.impact = violation.getImpact() != null ? violation.getImpact() : "unknown";
+            this.target = violation.getTarget();
+        }
+    }
+
+    private static final class RuleEntry {
+        String impact;
+        String help;
+        int elements;
+        final Set<String> pages = new TreeSet<>();
+        final List<Integer> lines = new ArrayList<>();
+    }
+
+    private static final class PageEntry {
+        final Set<String> names = new TreeSet<>();
+        int scans;
+        int passes = -1;
+        int inapplicable = -1;
+        int elements;
+        final Map<String, Integer> rules = new TreeMap<>();
+        final List<Integer> lines = new ArrayList<>();
+    }
+}
@@ -2,24 +2,27 @@ package utils;
 
 import com.deque.html.axecore.playwright.AxeBuilder;
 import com.deque.html.axecore.results.AxeResults;
+import com.deque.html.axecore.results.CheckedNode;
 import com.deque.html.axecore.results.Rule;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,11 +34,167 @@ public final class AccessibilityUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(AccessibilityUtil.class);
     private static final Set<String> FAILING_IMPACTS = Set.of("critical", "serious");
-    private static final String REPORTS_DIR = "target/a11y-reports";
-    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
-    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final List<String> DEFAULT_TAGS = List.of("wcag2a", "wcag2aa");
+
+    /**
+     * Rules that judge the document as a whole, so they cannot be evaluated
+     * on a region; incremental scans re-run them over the whole page when
+     * the page structure changed.
+     */
+    private static final List<String> PAGE_LEVEL_RULES = List.of(
+            "bypass", "document-title", "duplicate-id", "duplicate-id-active", "duplicate-id-aria",
+            "heading-order", "html-has-lang", "html-lang-valid", "landmark-banner-is-top-level",
+            "landmark-complementary-is-top-level", "landmark-contentinfo-is-top-level",
+            "landmark-main-is-top-level", "landmark-no-duplicate-banner", "landmark-no-duplicate-contentinfo",
+            "landmark-no-duplicate-main", "landmark-one-main", "landmark-unique", "meta-refresh",
+            "meta-viewport", "page-has-heading-one", "region");
+    private static final Gson gson = new Gson();
+    private static final MetricsRegistry.Histogram SCAN_DURATION = MetricsRegistry.histogram(
+            "a11y_scan_duration_seconds", "Time taken by axe page scans");
+    private static final String INCREMENTAL_DURATION = "a11y_incremental_scan_duration_seconds";
 
     private static final Map<String, Set<String>> WHITELIST = new HashMap<>();
+    private static final Map<Page, IncrementalState> INCREMENTAL = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Unique CSS path of an element within its document: from the nearest
+     * ancestor with a unique id, using nth-of-type steps.
+     */
+    private static final String CSS_PATH_FUNCTION = "el => {\n"
+            + "  const parts = [];\n"
+            + "  for (let node = el; node && node.nodeType === 1; node = node.parentElement) {\n"
+            + "    const doc = node.ownerDocument;\n"
+            + "    if (node.id && doc.querySelectorAll('#' + CSS.escape(node.id)).length === 1) {\n"
+            + "      parts.unshift('#' + CSS.escape(node.id));\n"
+            + "      break;\n"
+            + "    }\n"
+            + "    if (node === doc.documentElement) {\n"
+            + "      parts.unshift('html');\n"
+            + "      break;\n"
+            + "    }\n"
+            + "    let index = 1;\n"
+            + "    for (let sib = node.previousElementSibling; sib; sib = sib.previousElementSibling) {\n"
+            + "      if (sib.tagName === node.tagName) { index++; }\n"
+            + "    }\n"
+            + "    parts.unshift(node.tagName.toLowerCase() + ':nth-of-type(' + index + ')');\n"
+            + "  }\n"
+            + "  return parts.join(' > ');\n"
+            + "}";
+
+    /**
+     * Records the elements whose subtree changed (added/removed children,
+     * attributes, text) since the last collection, per document. A change
+     * is structural, and page-level rules must run again, when it adds or
+     * removes headings, landmarks, ids or head elements, changes an id,
+     * role, level, name, language or hidden state, or adds content outside
+     * any landmark.
+     */
+    private static final String CHANGE_TRACKER_SCRIPT = "(() => {\n"
+            + "  if (window.__a11yTracker) { return; }\n"
+            + "  const tracker = { id: Date.now().toString(36) + Math.random().toString(36).slice(2),\n"
+            + "    scanned: false, overflow: false, structural: false, changed: new Set() };\n"
+            + "  window.__a11yTracker = tracker;\n"
+            + "  const STRUCTURE = 'h1,h2,h3,h4,h5,h6,[role=heading],[id],main,header,footer,nav,aside,section,'\n"
+            + "    + 'form,[role],title,meta';\n"
+            + "  const LANDMARK = 'main,header,footer,nav,aside,section[aria-label],section[aria-labelledby],'\n"
+            + "    + 'form[aria-label],form[aria-labelledby],[role=main],[role=banner],[role=contentinfo],'\n"
+            + "    + '[role=navigation],[role=complementary],[role=region],[role=search],[role=form]';\n"
+            + "  const ATTRIBUTES = ['id', 'role', 'aria-level', 'aria-label', 'aria-labelledby', 'lang',\n"
+            + "    'hidden', 'aria-hidden'];\n"
+            + "  const structural = node => node.nodeType === 1\n"
+            + "    && (node.matches(STRUCTURE) || node.querySelector(STRUCTURE) !== null);\n"
+            + "  new MutationObserver(records => {\n"
+            + "    for (const record of records) {\n"
+            + "      const node = record.type === 'characterData' ? record.target.parentElement : record.target;\n"
+            + "      if (!node || node.nodeType !== 1) { continue; }\n"
+            + "      if (!tracker.structural) {\n"
+            + "        tracker.structural = node.closest('head') !== null\n"
+            + "          || (record.type === 'attributes' && ATTRIBUTES.includes(record.attributeName))\n"
+            + "          || [...record.addedNodes, ...record.removedNodes].some(structural)\n"
+            + "          || (record.addedNodes.length > 0 && node.closest(LANDMARK) === null);\n"
+            + "      }\n"
+            + "      if (tracker.changed.size < 500) { tracker.changed.add(node); }\n"
+            + "      else { tracker.overflow = true; }\n"
+            + "    }\n"
+            + "  }).observe(document, { subtree: true, childList: true, attributes: true, characterData: true });\n"
+            + "})()";
+
+    /**
+     * Returns the changed regions as CSS paths (outermost changed elements
+     * only), whether the changes were structural and which cached violation
+     * targets are stale, then resets the tracker.
+     */
+    private static final String COLLECT_CHANGES_SCRIPT = "cachedTargets => {\n"
+            + "  const cssPath = " + CSS_PATH_FUNCTION + ";\n"
+            + "  const tracker = window.__a11yTracker;\n"
+            + "  if (!tracker) {\n"
+            + "    return JSON.stringify({ id: null, full: true, structural: true, regions: [], stale: [] });\n"
+            + "  }\n"
+            + "  let roots = [...tracker.changed].filter(el => el.isConnected);\n"
+            + "  roots = roots.filter(el => !roots.some(other => other !== el && other.contains(el)));\n"
+            + "  const full = !tracker.scanned || tracker.overflow\n"
+            + "    || roots.some(el => el === document.documentElement || el === document.body);\n"
+            + "  const structural = tracker.structural;\n"
+            + "  tracker.scanned = true;\n"
+            + "  tracker.overflow = false;\n"
+            + "  tracker.structural = false;\n"
+            + "  tracker.changed.clear();\n"
+            + "  const stale = full ? [] : cachedTargets.filter(target => {\n"
+            + "    let el = null;\n"
+            + "    try { el = document.querySelector(target); } catch (e) { return true; }\n"
+            + "    return !el || roots.some(root => root.contains(el));\n"
+            + "  });\n"
+            + "  return JSON.stringify({ id: tracker.id, full: full, structural: structural,\n"
+            + "    regions: full ? [] : roots.map(cssPath), stale: stale });\n"
+            + "}";
+
+    /**
+     * Axe context path of each matched element: the CSS path of every
+     * enclosing frame element, outermost first, then of the element itself.
+     * Null for elements in cross-origin frames, whose frame element is not
+     * reachable.
+     */
+    private static final String ELEMENT_PATH_SCRIPT = "elements => {\n"
+            + "  const cssPath = " + CSS_PATH_FUNCTION + ";\n"
+            + "  return JSON.stringify(elements.map(el => {\n"
+            + "    const path = [];\n"
+            + "    for (let node = el; node; ) {\n"
+            + "      path.unshift(cssPath(node));\n"
+            + "      const view = node.ownerDocument.defaultView;\n"
+            + "      if (view === view.top) { return path; }\n"
+            + "      node = view.frameElement;\n"
+            + "    }\n"
+            + "    return null;\n"
+            + "  }));\n"
+            + "}";
+
+    /**
+     * For each axe node target, the name of the scanned element that
+     * contains the node (also through nested frames), or null.
+     */
+    private static final String OWNER_SCRIPT = "({ elements, targets }) => {\n"
+            + "  const resolve = path => {\n"
+            + "    let doc = document;\n"
+            + "    let el = null;\n"
+            + "    for (const selector of path) {\n"
+            + "      if (!doc || typeof selector !== 'string') { return null; }\n"
+            + "      try { el = doc.querySelector(selector); } catch (e) { return null; }\n"
+            + "      if (!el) { return null; }\n"
+            + "      doc = el.contentDocument;\n"
+            + "    }\n"
+            + "    return el;\n"
+            + "  };\n"
+            + "  const roots = Object.entries(elements)\n"
+            + "    .flatMap(([name, paths]) => paths.map(path => ({ name: name, el: resolve(path) })))\n"
+            + "    .filter(root => root.el);\n"
+            + "  return JSON.stringify(targets.map(target => {\n"
+            + "    for (let node = resolve(target); node; node = node.ownerDocument.defaultView.frameElement) {\n"
+            + "      const root = roots.find(r => r.el.contains(node));\n"
+            + "      if (root) { return root.name; }\n"
+            + "    }\n"
+            + "    return null;\n"
+            + "  }));\n"
+            + "}";
 
     private AccessibilityUtil() {
         // Utility class - no instantiation
@@ -62,43 +221,316 @@ public final class AccessibilityUtil {
     public static void scan(final Page page, final String pageName, final List<String> tags) {
         logger.info("Starting accessibility scan: {}", pageName);
 
-        final List<String> scanTags = tags != null ? tags : List.of("wcag2a", "wcag2aa");
+        final List<String> scanTags = tags != null ? tags : DEFAULT_TAGS;
+        final AxeResults results = analyze(new AxeBuilder(page).withTags(scanTags), "AccessibilityUtil.scan", pageName);
+        final List<Violation> violations = violationsOf(results, pageName);
 
-        final AxeResults results = new AxeBuilder(page)
-                .withTags(scanTags)
-                .analyze();
+        logger.info("[A11Y][{}] Found {} violations and {} passes",
+                pageName, results.getViolations().size(), results.getPasses().size());
 
-        final List<Rule> violations = results.getViolations();
-        final List<Rule> passes = results.getPasses();
+        // Record in the run's report
+        AccessibilityReportStore.record(page.url(), pageName, violations, results.getPasses().size(),
+                results.getInapplicable().size());
 
-        logger.info("[A11Y][{}] Found {} violations and {} passes", pageName, violations.size(), passes.size());
+        check(pageName, violations);
+    }
 
-        // Generate report
-        generateReport(pageName, results);
+    /**
+     * Start tracking DOM changes on a page for {@link #scanIncremental}.
+     * The tracker is installed as an init script, so it follows navigations,
+     * and in the current document.
+     *
+     * @param page the Playwright page
+     */
+    public static void trackChanges(final Page page) {
+        final IncrementalState state = incrementalState(page);
+        synchronized (state) {
+            if (state.tracking) {
+                return;
+            }
+            page.addInitScript(CHANGE_TRACKER_SCRIPT);
+            page.evaluate(CHANGE_TRACKER_SCRIPT);
+            state.tracking = true;
+        }
+        logger.debug("✓ Tracking DOM changes for incremental accessibility scans");
+    }
 
-        // Check for blocking issues
-        boolean hasBlockingIssues = false;
-        final List<Rule> blockedRules = new ArrayList<>();
+    /**
+     * Scan only what changed since the previous scan of the page.
+     * The first scan of each document is a full scan. Afterwards, axe runs
+     * only on the subtrees that were added to or modified since the last
+     * scan; cached violations outside them are kept, and those inside them
+     * (or on removed elements) are replaced by the new results. Document-level
+     * rules (landmarks, duplicate ids, heading order, ...) are re-run over the
+     * whole page only when a change added or removed headings, landmarks or
+     * ids (see {@code CHANGE_TRACKER_SCRIPT}); otherwise their cached results
+     * are kept. When nothing changed no scan runs;
+     * when too much changed a full scan runs. The merged violations are
+     * checked the same way as {@link #scan(Page, String)}.
+     *
+     * @param page     the Playwright page
+     * @param pageName the name of the page being scanned
+     * @return what the scan covered and the merged violations
+     */
+    public static IncrementalScan scanIncremental(final Page page, final String pageName) {
+        trackChanges(page);
+        final IncrementalState state = incrementalState(page);
+        final List<Violation> merged;
+        final List<String> regions = new ArrayList<>();
+        final String mode;
+        boolean pageRules = false;
+        final long start = System.currentTimeMillis();
+
+        synchronized (state) {
+            final Set<String> cachedTargets = new HashSet<>();
+            state.violations.values().forEach(violation -> cachedTargets.add(violation.rootTarget()));
+            final JsonObject changes = gson.fromJson(
+                    (String) page.evaluate(COLLECT_CHANGES_SCRIPT, new ArrayList<>(cachedTargets)), JsonObject.class);
+            final String documentId = changes.has("id") && !changes.get("id").isJsonNull()
+                    ? changes.get("id").getAsString() : null;
+            changes.getAsJsonArray("regions").forEach(region -> regions.add(region.getAsString()));
+            final boolean full = changes.get("full").getAsBoolean() || documentId == null
+                    || !documentId.equals(state.documentId)
+                    || regions.size() > ConfigReader.getInt("a11y.incremental.max.regions", 25);
+
+            if (full) {
+                mode = "full";
+                final AxeResults results = analyze(new AxeBuilder(page).withTags(DEFAULT_TAGS),
+                        "AccessibilityUtil.scanIncremental", pageName);
+                state.violations.clear();
+                violationsOf(results, pageName).forEach(violation -> state.violations.put(violation.key(), violation));
+                state.documentId = documentId;
+            } else if (regions.isEmpty()) {
+                mode = "unchanged";
+            } else {
+                mode = "partial";
+                pageRules = changes.get("structural").getAsBoolean();
+                final boolean rerunPageRules = pageRules;
+                final Set<String> stale = new HashSet<>();
+                changes.getAsJsonArray("stale").forEach(target -> stale.add(target.getAsString()));
+                state.violations.values().removeIf(violation -> PAGE_LEVEL_RULES.contains(violation.getRuleId())
+                        ? rerunPageRules
+                        : stale.contains(violation.rootTarget()));
+
+                AxeBuilder builder = new AxeBuilder(page).withTags(DEFAULT_TAGS).disableRules(PAGE_LEVEL_RULES);
+                for (final String region : regions) {
+                    builder = builder.include(region);
+                }
+                final AxeResults results = analyze(builder, "AccessibilityUtil.scanIncremental", pageName);
+                violationsOf(results, pageName).forEach(violation -> state.violations.put(violation.key(), violation));
+                if (rerunPageRules) {
+                    final AxeResults pageResults = analyze(new AxeBuilder(page).withRules(PAGE_LEVEL_RULES),
+                            "AccessibilityUtil.scanIncremental", pageName);
+                    violationsOf(pageResults, pageName)
+                            .forEach(violation -> state.violations.put(violation.key(), violation));
+                }
+            }
+            merged = new ArrayList<>(state.violations.values());
+            AccessibilityReportStore.record(page.url(), pageName, merged, -1, -1);
+        }
 
-        for (final Rule rule : violations) {
-            final String impact = rule.getImpact();
-            logger.info("[A11Y][{}] {} | Impact: {}", pageName, rule.getId(), impact);
+        final long elapsed = System.currentTimeMillis() - start;
+        logger.info("[A11Y][{}] Incremental scan ({}, {} changed regions{}) in {}ms: {} violations",
+                pageName, mode, regions.size(), pageRules ? ", page-level rules re-run" : "", elapsed, merged.size());
+        MetricsRegistry.counter("a11y_incremental_scans", "Incremental accessibility scans by mode",
+                "mode", mode).inc();
+        MetricsRegistry.histogram(INCREMENTAL_DURATION, "Time taken by incremental accessibility scans by mode",
+                "mode", pageRules ? "partial_page_rules" : mode).observeMillis(elapsed);
+        check(pageName, merged);
+        return new IncrementalScan(mode, regions, pageRules, merged);
+    }
+
+    /**
+     * Scan a specific element for accessibility violations.
+     * Only the element's subtree is analyzed; see {@link #scanElements}.
+     *
+     * @param page        the Playwright page
+     * @param element     the locator to scan
+     * @param elementName the name of the element
+     * @throws AssertionError if the element has critical or serious violations
+     */
+    public static void scanElement(final Page page, final Locator element, final String elementName) {
+        scanElements(page, Map.of(elementName, element));
+    }
+
+    /**
+     * Scan several elements for accessibility violations in one axe run.
+     * Each locator is resolved to the CSS path of every element it matches,
+     * prefixed with the paths of enclosing frames, and axe includes only
+     * those subtrees. Violations are attributed to the element containing
+     * them.
+     *
+     * @param page     the Playwright page
+     * @param elements locators to scan, by element name
+     * @return violations by element name (every element has an entry);
+     *         violations that cannot be attributed are listed under the
+     *         comma-separated names of all elements
+     * @throws AssertionError if any element has critical or serious violations
+     */
+    public static Map<String, List<Violation>> scanElements(final Page page, final Map<String, Locator> elements) {
+        logger.info("Starting element accessibility scan: {}", elements.keySet());
+
+        final Map<String, List<List<String>>> paths = new LinkedHashMap<>();
+        AxeBuilder builder = new AxeBuilder(page).withTags(DEFAULT_TAGS);
+        for (final Map.Entry<String, Locator> element : elements.entrySet()) {
+            final List<List<String>> elementPaths = elementPaths(element.getValue(), element.getKey());
+            for (final List<String> path : elementPaths) {
+                builder = path.size() == 1 ? builder.include(path.get(0)) : builder.include(path);
+            }
+            paths.put(element.getKey(), elementPaths);
+        }
+
+        final String scanName = String.join(", ", elements.keySet());
+        final AxeResults results = analyze(builder, "AccessibilityUtil.scanElements", scanName);
+        final Map<String, List<Violation>> byElement = new LinkedHashMap<>();
+        elements.keySet().forEach(name -> byElement.put(name, new ArrayList<>()));
+        final List<Violation> unattributed = new ArrayList<>();
+        attribute(page, paths, results).forEach((violation, owner) ->
+                (owner != null ? byElement.get(owner) : unattributed).add(violation));
+        if (!unattributed.isEmpty()) {
+            // Targets the browser could not resolve (e.g. in shadow DOM) are reported for the whole batch
+            byElement.computeIfAbsent(scanName, name -> new ArrayList<>()).addAll(unattributed);
+        }
+
+        final List<String> failing = new ArrayList<>();
+        byElement.forEach((name, violations) -> {
+            AccessibilityReportStore.record(page.url(), name, violations, -1, -1);
+            violations.stream()
+                    .collect(Collectors.groupingBy(Violation::getRuleId, LinkedHashMap::new, Collectors.toList()))
+                    .forEach((ruleId, nodes) -> logger.warn("[A11Y] Element {} - {} | Impact: {} ({} nodes)",
+                            name, ruleId, nodes.get(0).getImpact(), nodes.size()));
+            if (violations.stream().anyMatch(violation -> FAILING_IMPACTS.contains(violation.getImpact()))) {
+                failing.add(name);
+            }
+        });
+        if (!failing.isEmpty()) {
+            throw new AssertionError(String.format("Element %s has critical accessibility violations",
+                    String.join(", ", failing)));
+        }
+
+        logger.info("✅ Element scan passed: {}", scanName);
+        return byElement;
+    }
+
+    /**
+     * Axe include paths of every element a locator matches, after waiting
+     * for the first match to be visible.
+     */
+    private static List<List<String>> elementPaths(final Locator element, final String elementName) {
+        CommonFunction.waitForElement(element.first(), elementName);
+        final List<List<String>> paths = gson.fromJson((String) element.evaluateAll(ELEMENT_PATH_SCRIPT),
+                new TypeToken<List<List<String>>>() {
+                }.getType());
+        if (paths.isEmpty()) {
+            throw new RuntimeException("Element scan failed: " + elementName + " not found");
+        }
+        if (paths.contains(null)) {
+            throw new RuntimeException("Element scan failed: " + elementName
+                    + " is in a cross-origin frame and cannot be scoped");
+        }
+        return paths;
+    }
+
+    /**
+     * Map each violation to the name of the scanned element containing it
+     * (null when none does). A single element owns everything without a
+     * browser round trip.
+     */
+    private static Map<Violation, String> attribute(
+            final Page page,
+            final Map<String, List<List<String>>> paths,
+            final AxeResults results) {
+        final Map<Violation, String> owners = new LinkedHashMap<>();
+        final List<Violation> violations = new ArrayList<>();
+        for (final Rule rule : results.getViolations()) {
+            for (final CheckedNode node : rule.getNodes()) {
+                violations.add(new Violation(null, rule, node));
+            }
+        }
+        if (paths.size() == 1) {
+            final String owner = paths.keySet().iterator().next();
+            violations.forEach(violation -> owners.put(violation.withPage(owner), owner));
+            return owners;
+        }
+
+        final Map<String, Object> argument = new HashMap<>();
+        argument.put("elements", paths);
+        argument.put("targets", violations.stream().map(Violation::getTarget).collect(Collectors.toList()));
+        final List<String> names = gson.fromJson((String) page.evaluate(OWNER_SCRIPT, argument),
+                new TypeToken<List<String>>() {
+                }.getType());
+        for (int i = 0; i < violations.size(); i++) {
+            owners.put(violations.get(i).withPage(names.get(i)), names.get(i));
+        }
+        return owners;
+    }
+
+    /**
+     * Scan a whole page and return its violations without checking them.
+     *
+     * @param page     the Playwright page
+     * @param pageName the name of the page being scanned
+     * @return one violation per rule and node
+     */
+    static List<Violation> collect(final Page page, final String pageName) {
+        return violationsOf(analyze(new AxeBuilder(page).withTags(DEFAULT_TAGS), "AccessibilityUtil.collect", pageName),
+                pageName);
+    }
+
+    /**
+     * Run an axe analysis and time it.
+     */
+    private static AxeResults analyze(final AxeBuilder builder, final String spanName, final String pageName) {
+        final long scanStart = System.currentTimeMillis();
+        try (Instrumentation.Span span = Instrumentation.span(spanName, pageName)) {
+            return builder.analyze();
+        } finally {
+            SCAN_DURATION.observeMillis(System.currentTimeMillis() - scanStart);
+        }
+    }
+
+    /**
+     * Flatten axe violations into one entry per rule and node.
+     */
+    private static List<Violation> violationsOf(final AxeResults results, final String pageName) {
+        final List<Violation> violations = new ArrayList<>();
+        for (final Rule rule : results.getViolations()) {
+            for (final CheckedNode node : rule.getNodes()) {
+                violations.add(new Violation(pageName, rule, node));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Log and count violations by rule, and fail on critical or serious ones
+     * that are not whitelisted when {@code a11y.violation.strict.mode} is set.
+     */
+    static void check(final String pageName, final List<Violation> violations) {
+        final Map<String, List<Violation>> byRule = violations.stream()
+                .collect(Collectors.groupingBy(Violation::getRuleId, LinkedHashMap::new, Collectors.toList()));
+
+        // Check for blocking issues
+        final List<String> blockedRules = new ArrayList<>();
+        byRule.forEach((ruleId, nodes) -> {
+            final String impact = nodes.get(0).getImpact();
+            logger.info("[A11Y][{}] {} | Impact: {}", pageName, ruleId, impact);
+            MetricsRegistry.counter("a11y_violations", "Accessibility violations found by page scans",
+                    "impact", impact != null ? impact : "unknown").inc();
 
             if (impact != null && FAILING_IMPACTS.contains(impact)) {
                 // Check if whitelisted
-                if (isWhitelisted(pageName, rule.getId())) {
-                    logger.warn("[A11Y][{}] ✓ Whitelisted violation: {} (Impact: {})", pageName, rule.getId(), impact);
-                    continue;
+                if (isWhitelisted(pageName, ruleId)) {
+                    logger.warn("[A11Y][{}] ✓ Whitelisted violation: {} (Impact: {})", pageName, ruleId, impact);
+                    return;
                 }
 
-                hasBlockingIssues = true;
-                blockedRules.add(rule);
-
-                rule.getNodes().forEach(node -> logger.warn("  ↳ {}", node.getHtml()));
+                blockedRules.add(ruleId);
+                nodes.forEach(node -> logger.warn("  ↳ {}", node.getHtml()));
             }
-        }
+        });
 
-        if (hasBlockingIssues) {
+        if (!blockedRules.isEmpty()) {
             final String message = String.format(
                     "Accessibility blocking issues found on %s (%d critical/serious violations)",
                     pageName,
@@ -114,44 +546,11 @@ public final class AccessibilityUtil {
             }
         }
 
-        logger.info("✅ Accessibility scan passed: {} - {} violations (non-blocking)", pageName, violations.size());
+        logger.info("✅ Accessibility scan passed: {} - {} violations (non-blocking)", pageName, byRule.size());
     }
 
-    /**
-     * Scan a specific element for accessibility violations.
-     *
-     * @param page        the Playwright page
-     * @param element     the locator to scan
-     * @param elementName the name of the element
-     */
-    public static void scanElement(final Page page, final Locator element, final String elementName) {
-        logger.info("Starting element accessibility scan: {}", elementName);
-
-        try {
-            final AxeResults results = new AxeBuilder(page)
-                    .include(element.toString())
-                    .withTags(List.of("wcag2a", "wcag2aa"))
-                    .analyze();
-
-            final List<Rule> violations = results.getViolations();
-
-            if (!violations.isEmpty()) {
-                violations.forEach(rule -> {
-                    final String impact = rule.getImpact();
-                    logger.warn("[A11Y] Element {} - {} | Impact: {}", elementName, rule.getId(), impact);
-                });
-
-                if (violations.stream().anyMatch(rule -> FAILING_IMPACTS.contains(rule.getImpact()))) {
-                    throw new AssertionError(
-                            String.format("Element %s has critical accessibility violations", elementName));
-                }
-            }
-
-            logger.info("✅ Element scan passed: {}", elementName);
-        } catch (final Exception e) {
-            logger.error("Failed to scan element: {}", elementName, e);
-            throw new RuntimeException("Element scan failed: " + elementName, e);
-        }
+    private static IncrementalState incrementalState(final Page page) {
+        return INCREMENTAL.computeIfAbsent(page, key -> new IncrementalState());
     }
 
     /**
@@ -265,7 +664,7 @@ public final class AccessibilityUtil {
      * @param ruleId   the rule ID
      * @return true if whitelisted, false otherwise
      */
-    private static boolean isWhitelisted(final String pageName, final String ruleId) {
+    static boolean isWhitelisted(final String pageName, final String ruleId) {
         final Set<String> pageWhitelist = WHITELIST.get(pageName);
         return pageWhitelist != null && pageWhitelist.contains(ruleId);
     }
@@ -292,50 +691,155 @@ public final class AccessibilityUtil {
     }
 
     /**
-     * Generate accessibility report in JSON format.
-     *
-     * @param pageName the page name
-     * @param results  the Axe results
+     * Clear all whitelisted violations.
      */
-    private static void generateReport(final String pageName, final AxeResults results) {
-        try {
-            ensureReportsDirectory();
+    public static void clearWhitelist() {
+        WHITELIST.clear();
+        logger.info("✓ Cleared accessibility whitelist");
+    }
+
+    /**
+     * One element that violates one axe rule.
+     */
+    public static final class Violation {
+        private final String page;
+        private final String ruleId;
+        private final String impact;
+        private final String help;
+        private final List<String> target;
+        private final String html;
+
+        Violation(final String page, final Rule rule, final CheckedNode node) {
+            this.page = page;
+            this.ruleId = rule.getId();
+            this.impact = node.getImpact() != null ? node.getImpact() : rule.getImpact();
+            this.help = rule.getHelp();
+            this.target = node.getTarget() != null
+                    ? node.getTarget().stream().map(String::valueOf).collect(Collectors.toList())
+                    : List.of();
+            this.html = node.getHtml();
+        }
 
-            final String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
-            final String reportFileName = String.format("a11y-report-%s-%s.json", pageName, timestamp);
-            final Path reportPath = Paths.get(REPORTS_DIR, reportFileName);
+        private Violation(final Violation violation, final String page) {
+            this.page = page;
+            this.ruleId = violation.ruleId;
+            this.impact = violation.impact;
+            this.help = violation.help;
+            this.target = violation.target;
+            this.html = violation.html;
+        }
+
+        Violation withPage(final String newPage) {
+            return new Violation(this, newPage);
+        }
+
+        public String getPage() {
+            return page;
+        }
 
-            final Map<String, Object> report = new HashMap<>();
-            report.put("pageName", pageName);
-            report.put("timestamp", timestamp);
-            report.put("violationCount", results.getViolations().size());
-            report.put("passCount", results.getPasses().size());
-            report.put("inapplicableCount", results.getInapplicable().size());
+        public String getRuleId() {
+            return ruleId;
+        }
+
+        public String getImpact() {
+            return impact;
+        }
+
+        public String getHelp() {
+            return help;
+        }
 
-            Files.write(reportPath, gson.toJson(report).getBytes(StandardCharsets.UTF_8));
-            logger.info("✓ Accessibility report generated: {}", reportPath);
-        } catch (final IOException e) {
-            logger.error("Failed to generate accessibility report", e);
+        /**
+         * Selector path of the element: one CSS selector per frame, outermost
+         * first.
+         *
+         * @return the target
+         */
+        public List<String> getTarget() {
+            return target;
+        }
+
+        public String getHtml() {
+            return html;
+        }
+
+        /**
+         * Selector of the element, or of the frame containing it, in the top
+         * document.
+         */
+        String rootTarget() {
+            return target.isEmpty() ? "" : target.get(0);
+        }
+
+        String key() {
+            return ruleId + "|" + String.join(" >>> ", target);
         }
     }
 
     /**
-     * Create reports directory if it doesn't exist.
-     *
-     * @throws IOException if directory creation fails
+     * Outcome of {@link #scanIncremental(Page, String)}.
      */
-    private static void ensureReportsDirectory() throws IOException {
-        final Path reportsPath = Paths.get(REPORTS_DIR);
-        if (!Files.exists(reportsPath)) {
-            Files.createDirectories(reportsPath);
+    public static final class IncrementalScan {
+        private final String mode;
+        private final List<String> regions;
+        private final boolean pageRules;
+        private final List<Violation> violations;
+
+        IncrementalScan(
+                final String mode,
+                final List<String> regions,
+                final boolean pageRules,
+                final List<Violation> violations) {
+            this.mode = mode;
+            this.regions = regions;
+            this.pageRules = pageRules;
+            this.violations = violations;
+        }
+
+        /**
+         * How much of the page was scanned.
+         *
+         * @return full, partial or unchanged
+         */
+        public String getMode() {
+            return mode;
+        }
+
+        /**
+         * CSS paths of the changed regions axe ran on.
+         *
+         * @return the regions; empty unless the scan was partial
+         */
+        public List<String> getRegions() {
+            return "partial".equals(mode) ? regions : List.of();
+        }
+
+        /**
+         * Whether a partial scan re-ran the page-level rules because the page
+         * structure changed.
+         *
+         * @return true if page-level rules ran over the whole page
+         */
+        public boolean isPageRulesRerun() {
+            return pageRules;
+        }
+
+        /**
+         * Violations of the page after merging the scan into the cache.
+         *
+         * @return the violations
+         */
+        public List<Violation> getViolations() {
+            return violations;
         }
     }
 
     /**
-     * Clear all whitelisted violations.
+     * Cached violations of the current document of a page.
      */
-    public static void clearWhitelist() {
-        WHITELIST.clear();
-        logger.info("✓ Cleared accessibility whitelist");
+    private static final class IncrementalState {
+        boolean tracking;
+        String documentId;
+        final Map<String, Violation> violations = new LinkedHashMap<>();
     }
 }
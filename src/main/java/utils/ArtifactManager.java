@@ -66,7 +66,9 @@ public final class ArtifactManager {
             final String fileName = String.format("%s-%s.png", testName, timestamp);
             final Path filePath = Paths.get(SCREENSHOTS_DIR, fileName);
 
-            page.screenshot(new Page.ScreenshotOptions().setFullPage(fullPage).setPath(filePath));
+            try (Instrumentation.Span span = Instrumentation.span("ArtifactManager.takeScreenshot", testName)) {
+                page.screenshot(new Page.ScreenshotOptions().setFullPage(fullPage).setPath(filePath));
+            }
             logger.info("✓ Screenshot captured: {}", filePath);
             return filePath.toString();
         } catch (final Exception e) {
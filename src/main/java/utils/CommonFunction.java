@@ -2,6 +2,10 @@ package utils;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,6 +21,42 @@ public final class CommonFunction {
     private static final Logger logger = LoggerFactory.getLogger(CommonFunction.class);
     private static final int DEFAULT_TIMEOUT_MS = 5000;
     private static final int DEFAULT_POLL_INTERVAL_MS = 500;
+    private static final MetricsRegistry.Histogram WAITS_MET = MetricsRegistry.histogram(
+            "playwright_wait_duration_seconds", "Time spent in CommonFunction.waitFor", "outcome", "met");
+    private static final MetricsRegistry.Histogram WAITS_TIMED_OUT = MetricsRegistry.histogram(
+            "playwright_wait_duration_seconds", "Time spent in CommonFunction.waitFor", "outcome", "timeout");
+    private static final MetricsRegistry.Histogram FORM_FIELDS = MetricsRegistry.histogram(
+            "form_field_fill_duration_seconds", "Time to fill one field in CommonFunction.fillForm",
+            new double[] {0.0005, 0.001, 0.005, 0.01, 0.05, 0.1});
+
+    /**
+     * Waits in the page until every selector matches a visible element, and
+     * returns per selector its state (ready, invalid, missing or hidden) and
+     * how it is filled: toggled, selected or typed into. Stops at the first
+     * invalid selector or when the timeout passes.
+     */
+    private static final String FORM_STATE_SCRIPT = "async ([selectors, timeout]) => {\n"
+            + "  const inspect = s => {\n"
+            + "    let el;\n"
+            + "    try { el = document.querySelector(s); } catch (e) { return { state: 'invalid' }; }\n"
+            + "    if (!el) return { state: 'missing' };\n"
+            + "    const rect = el.getBoundingClientRect();\n"
+            + "    if (!rect.width || !rect.height || getComputedStyle(el).visibility === 'hidden') {\n"
+            + "      return { state: 'hidden' };\n"
+            + "    }\n"
+            + "    return { state: 'ready', kind: el.tagName === 'SELECT' ? 'select'\n"
+            + "      : (el.type === 'checkbox' || el.type === 'radio') ? 'toggle' : 'text' };\n"
+            + "  };\n"
+            + "  const deadline = Date.now() + timeout;\n"
+            + "  for (;;) {\n"
+            + "    const fields = selectors.map(inspect);\n"
+            + "    if (fields.every(f => f.state === 'ready') || fields.some(f => f.state === 'invalid')\n"
+            + "        || Date.now() >= deadline) {\n"
+            + "      return fields;\n"
+            + "    }\n"
+            + "    await new Promise(resolve => setTimeout(resolve, 50));\n"
+            + "  }\n"
+            + "}";
 
     private CommonFunction() {
         // Utility class - no instantiation
@@ -67,29 +107,34 @@ public final class CommonFunction {
      * @throws TimeoutException if condition is not met within timeout
      */
     public static void waitFor(final Supplier<Boolean> condition, final String description, final int timeoutMs) {
-        final long endTime = System.currentTimeMillis() + timeoutMs;
+        try (Instrumentation.Span span = Instrumentation.span("CommonFunction.waitFor", description)) {
+            final long startTime = System.currentTimeMillis();
+            final long endTime = startTime + timeoutMs;
+
+            while (System.currentTimeMillis() < endTime) {
+                try {
+                    if (condition.get()) {
+                        WAITS_MET.observeMillis(System.currentTimeMillis() - startTime);
+                        logger.debug("✓ Wait condition met: {}", description);
+                        return;
+                    }
+                } catch (final Exception e) {
+                    logger.trace("Condition not yet met: {}", description, e);
+                }
 
-        while (System.currentTimeMillis() < endTime) {
-            try {
-                if (condition.get()) {
-                    logger.debug("✓ Wait condition met: {}", description);
-                    return;
+                try {
+                    Thread.sleep(DEFAULT_POLL_INTERVAL_MS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Wait interrupted for: " + description, e);
                 }
-            } catch (final Exception e) {
-                logger.trace("Condition not yet met: {}", description, e);
             }
 
-            try {
-                Thread.sleep(DEFAULT_POLL_INTERVAL_MS);
-            } catch (final InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException("Wait interrupted for: " + description, e);
-            }
+            WAITS_TIMED_OUT.observeMillis(System.currentTimeMillis() - startTime);
+            final String message = String.format("Timeout waiting for: %s (timeout: %dms)", description, timeoutMs);
+            logger.error(message);
+            throw new TimeoutException(message);
         }
-
-        final String message = String.format("Timeout waiting for: %s (timeout: %dms)", description, timeoutMs);
-        logger.error(message);
-        throw new TimeoutException(message);
     }
 
     // ============= ACTION FUNCTIONS =============
@@ -146,6 +191,98 @@ public final class CommonFunction {
         locator.type(text);
     }
 
+    /**
+     * Fill a form and submit it. One script run in the page checks every
+     * selector, waits for all fields and the submit element to be visible
+     * and tells how each field is filled, instead of a visibility wait per
+     * field; the fields are then filled and the form submitted with
+     * Playwright locator actions, so actionability checks (enabled,
+     * editable, not covered) still apply.
+     *
+     * <p>
+     * Fields are CSS selectors mapped to values, filled in map order.
+     * Checkboxes and radios take "true" or "false"; selects take an option
+     * value or label.
+     *
+     * @param page        the Playwright page
+     * @param fields      selector to value, in fill order
+     * @param submit      selector of the element to click afterwards, or
+     *                    null to only fill
+     * @param description description of the form
+     * @return time taken per field selector, in milliseconds
+     * @throws IllegalArgumentException if a selector is not valid CSS or a
+     *                                  value is null
+     * @throws TimeoutException if the fields are not visible within the
+     *                          default timeout
+     */
+    public static Map<String, Double> fillForm(
+            final Page page,
+            final Map<String, String> fields,
+            final String submit,
+            final String description) {
+        try (Instrumentation.Span span = Instrumentation.span("CommonFunction.fillForm", description)) {
+            final List<String> selectors = new ArrayList<>(fields.keySet());
+            if (submit != null) {
+                selectors.add(submit);
+            }
+            fields.forEach((selector, value) -> {
+                if (value == null) {
+                    throw new IllegalArgumentException("No value for field " + selector + " of " + description);
+                }
+            });
+            final List<?> states = (List<?>) page.evaluate(FORM_STATE_SCRIPT, List.of(selectors, DEFAULT_TIMEOUT_MS));
+            final Map<String, String> kinds = new LinkedHashMap<>();
+            final List<String> notReady = new ArrayList<>();
+            for (int i = 0; i < selectors.size(); i++) {
+                final Map<?, ?> state = (Map<?, ?>) states.get(i);
+                if ("invalid".equals(state.get("state"))) {
+                    throw new IllegalArgumentException(
+                            "Invalid CSS selector in " + description + ": " + selectors.get(i));
+                }
+                if (!"ready".equals(state.get("state"))) {
+                    notReady.add(selectors.get(i) + " (" + state.get("state") + ")");
+                }
+                kinds.put(selectors.get(i), (String) state.get("kind"));
+            }
+            if (!notReady.isEmpty()) {
+                final String message = String.format("Timeout waiting for: Form ready: %s %s (timeout: %dms)",
+                        description, notReady, DEFAULT_TIMEOUT_MS);
+                logger.error(message);
+                throw new TimeoutException(message);
+            }
+
+            logger.debug("Filling {} fields of {}{}",
+                    fields.size(), description, submit != null ? " and submitting" : "");
+            final Map<String, Double> result = new LinkedHashMap<>();
+            fields.forEach((selector, value) -> {
+                final long start = System.nanoTime();
+                final Locator field = page.locator(selector);
+                switch (kinds.get(selector)) {
+                    case "toggle":
+                        if (Boolean.parseBoolean(value)) {
+                            field.check();
+                        } else {
+                            field.uncheck();
+                        }
+                        break;
+                    case "select":
+                        field.selectOption(value);
+                        break;
+                    default:
+                        field.fill(value);
+                }
+                final double millis = (System.nanoTime() - start) / 1_000_000.0;
+                result.put(selector, millis);
+                FORM_FIELDS.observe(millis / 1000.0);
+            });
+            if (submit != null) {
+                page.locator(submit).click();
+            }
+            logger.debug("✓ Form filled: {} - field timings (ms) {}", description, result);
+            return result;
+        }
+    }
+
     /**
      * Press a key on the page.
      *
@@ -402,7 +539,32 @@ public final class CommonFunction {
     // ============= RETRY FUNCTIONS =============
 
     /**
-     * Retry an action with exponential backoff.
+     * Retry an action under the configured {@link RetryPolicy}, with
+     * {@code retry.max.attempts} attempts.
+     *
+     * @param action      the action to retry
+     * @param description description of the action
+     */
+    public static void retry(final Runnable action, final String description) {
+        RetryPolicy.fromConfig().run(action, description);
+    }
+
+    /**
+     * Retry a supplier under the configured {@link RetryPolicy}, with
+     * {@code retry.max.attempts} attempts.
+     *
+     * @param <T>         the return type
+     * @param supplier    the supplier to retry
+     * @param description description of the action
+     * @return the result from the supplier
+     */
+    public static <T> T retry(final Supplier<T> supplier, final String description) {
+        return RetryPolicy.fromConfig().call(supplier, description);
+    }
+
+    /**
+     * Retry an action under the configured {@link RetryPolicy}, overriding the number of
+     * attempts.
      *
      * @param action      the action to retry
      * @param description description of the action
@@ -416,7 +578,9 @@ public final class CommonFunction {
     }
 
     /**
-     * Retry a supplier with exponential backoff.
+     * Retry a supplier under the configured {@link RetryPolicy}: backoff with
+     * full jitter, and only for transient failures (timeouts, closed
+     * targets) while the suite retry budget lasts.
      *
      * @param <T>         the return type
      * @param supplier    the supplier to retry
@@ -425,38 +589,7 @@ public final class CommonFunction {
      * @return the result from the supplier
      */
     public static <T> T retry(final Supplier<T> supplier, final String description, final int maxAttempts) {
-        Exception lastException = null;
-
-        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
-            try {
-                logger.debug("Attempt {}/{}: {}", attempt, maxAttempts, description);
-                final T result = supplier.get();
-                if (attempt > 1) {
-                    logger.info("✓ Retry successful for: {} (attempt {})", description, attempt);
-                }
-                return result;
-            } catch (final Exception e) {
-                lastException = e;
-                logger.warn("Attempt {}/{} failed for: {}", attempt, maxAttempts, description, e);
-
-                if (attempt < maxAttempts) {
-                    final long waitMs = (long) Math.pow(2, attempt - 1) * 100;
-                    try {
-                        Thread.sleep(waitMs);
-                    } catch (final InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException("Retry interrupted", ie);
-                    }
-                }
-            }
-        }
-
-        final String message = String.format(
-                "Failed to %s after %d attempts",
-                description,
-                maxAttempts);
-        logger.error(message, lastException);
-        throw new RuntimeException(message, lastException);
+        return RetryPolicy.fromConfig().setMaxAttempts(maxAttempts).call(supplier, description);
     }
 
     /**
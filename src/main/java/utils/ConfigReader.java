@@ -7,7 +7,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Centralized configuration reader for test framework and application settings.
- * Loads properties from config.properties file.
+ * Loads properties from config.properties file. JVM system properties (for
+ * example {@code -Dbrowser=firefox}) take precedence over file values.
  */
 public final class ConfigReader {
 
@@ -43,7 +44,7 @@ public final class ConfigReader {
      * @return the configuration value, or null if not found
      */
     public static String get(final String key) {
-        return PROPERTIES.getProperty(key);
+        return System.getProperty(key, PROPERTIES.getProperty(key));
     }
 
     /**
@@ -54,7 +55,7 @@ public final class ConfigReader {
      * @return the configuration value, or defaultValue if not found
      */
     public static String get(final String key, final String defaultValue) {
-        return PROPERTIES.getProperty(key, defaultValue);
+        return System.getProperty(key, PROPERTIES.getProperty(key, defaultValue));
     }
 
     /**
@@ -110,12 +111,17 @@ public final class ConfigReader {
     }
 
     /**
-     * Get base URL from configuration.
+     * Get base URL from configuration. Without an explicit {@code base.url}
+     * the embedded {@link StaticServer} serves the bundled test application.
      *
      * @return the base URL
      */
     public static String getBaseUrl() {
-        return get("base.url");
+        final String baseUrl = get("base.url");
+        if (baseUrl == null && StaticServer.isEnabled()) {
+            return StaticServer.start();
+        }
+        return baseUrl;
     }
 
     /**
@@ -125,6 +131,6 @@ public final class ConfigReader {
      * @return true if key exists, false otherwise
      */
     public static boolean hasKey(final String key) {
-        return PROPERTIES.containsKey(key);
+        return System.getProperties().containsKey(key) || PROPERTIES.containsKey(key);
     }
 }
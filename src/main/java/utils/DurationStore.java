@@ -0,0 +1,226 @@
+package utils;
+
+import com.google.gson.Gson;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only duration history keyed by test id.
+ * Each run appends one compact JSON line per test to durations.jsonl in the
+ * history directory. Only the most recent samples per test are used; when the
+ * file grows past the compaction threshold it is rewritten with just those
+ * samples.
+ */
+public final class DurationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DurationStore.class);
+    private static final String FILE_NAME = "durations.jsonl";
+    private static final Gson gson = new Gson();
+
+    private final Path file;
+    private final int samplesPerTest;
+    private final int compactThreshold;
+
+    /**
+     * Create a store in the configured history directory.
+     */
+    public DurationStore() {
+        this(Paths.get(ReportingUtil.getHistoryDir(), FILE_NAME),
+                ConfigReader.getInt("history.samples.per.test", 10),
+                ConfigReader.getInt("history.compact.threshold", 5000));
+    }
+
+    /**
+     * Create a store backed by a specific file.
+     *
+     * @param file             the JSONL file
+     * @param samplesPerTest   number of recent samples kept per test
+     * @param compactThreshold line count above which the file is compacted
+     */
+    public DurationStore(final Path file, final int samplesPerTest, final int compactThreshold) {
+        this.file = file;
+        this.samplesPerTest = samplesPerTest;
+        this.compactThreshold = compactThreshold;
+    }
+
+    /**
+     * Append samples from the current run, compacting the file if needed.
+     *
+     * @param samples the samples to append
+     */
+    public synchronized void append(final Collection<Sample> samples) {
+        if (samples.isEmpty()) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (final Sample sample : samples) {
+                    writer.write(gson.toJson(sample));
+                    writer.newLine();
+                }
+            }
+            logger.debug("✓ Appended {} duration samples to {}", samples.size(), file);
+            compactIfNeeded();
+        } catch (final IOException e) {
+            logger.error("Failed to append duration samples: {}", file, e);
+        }
+    }
+
+    /**
+     * Load the most recent samples per test, oldest first.
+     *
+     * @return map of test id to its recent samples
+     */
+    public synchronized Map<String, List<Sample>> load() {
+        final Map<String, Deque<Sample>> recent = new LinkedHashMap<>();
+        if (!Files.exists(file)) {
+            return new LinkedHashMap<>();
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final Sample sample = parse(line);
+                if (sample == null) {
+                    continue;
+                }
+                final Deque<Sample> window = recent.computeIfAbsent(sample.id, k -> new ArrayDeque<>());
+                window.addLast(sample);
+                if (window.size() > samplesPerTest) {
+                    window.removeFirst();
+                }
+            }
+        } catch (final IOException e) {
+            logger.warn("Failed to read duration history: {}", file, e);
+        }
+
+        final Map<String, List<Sample>> result = new LinkedHashMap<>();
+        recent.forEach((id, window) -> result.put(id, new ArrayList<>(window)));
+        return result;
+    }
+
+    /**
+     * Expected duration per test: the median of its recent samples.
+     *
+     * @return map of test id to expected duration in milliseconds
+     */
+    public Map<String, Long> estimates() {
+        final Map<String, Long> estimates = new HashMap<>();
+        load().forEach((id, samples) -> {
+            final long[] values = samples.stream().mapToLong(s -> s.ms).sorted().toArray();
+            if (values.length > 0) {
+                estimates.put(id, values[values.length / 2]);
+            }
+        });
+        return estimates;
+    }
+
+    /**
+     * Status of the most recent execution per test.
+     *
+     * @return map of test id to its last recorded status
+     */
+    public Map<String, String> lastStatuses() {
+        final Map<String, String> statuses = new HashMap<>();
+        load().forEach((id, samples) -> statuses.put(id, samples.get(samples.size() - 1).status));
+        return statuses;
+    }
+
+    /**
+     * Rewrite the file keeping only the recent samples per test once it
+     * exceeds the compaction threshold.
+     *
+     * @throws IOException if the file cannot be rewritten
+     */
+    private void compactIfNeeded() throws IOException {
+        final long lines;
+        try (Stream<String> stream = Files.lines(file, StandardCharsets.UTF_8)) {
+            lines = stream.count();
+        }
+        if (lines <= compactThreshold) {
+            return;
+        }
+
+        final Map<String, List<Sample>> recent = load();
+        final Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+        long kept = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (final List<Sample> samples : recent.values()) {
+                for (final Sample sample : samples) {
+                    writer.write(gson.toJson(sample));
+                    writer.newLine();
+                    kept++;
+                }
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("✓ Compacted duration history: {} -> {} lines", lines, kept);
+    }
+
+    private static Sample parse(final String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            final Sample sample = gson.fromJson(line, Sample.class);
+            return sample != null && sample.id != null ? sample : null;
+        } catch (final RuntimeException e) {
+            logger.trace("Skipping malformed duration line: {}", line, e);
+            return null;
+        }
+    }
+
+    /**
+     * One recorded execution of a test.
+     */
+    public static final class Sample {
+        final String id;
+        final long ms;
+        final String status;
+        final long ts;
+
+        public Sample(final String id, final long ms, final String status, final long ts) {
+            this.id = id;
+            this.ms = ms;
+            this.status = status;
+            this.ts = ts;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public long getDurationMs() {
+            return ms;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public long getTimestamp() {
+            return ts;
+        }
+    }
+}
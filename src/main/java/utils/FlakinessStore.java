@@ -0,0 +1,530 @@
+package utils;
+
+import com.google.gson.Gson;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-run test outcomes and the flakiness statistics derived from them.
+ * Each run appends one compact JSON line per test to outcomes.jsonl in the
+ * history directory. Statistics are kept in flakiness-index.json together
+ * with the log offset they cover, so each update only reads the lines
+ * appended since; querying a history of thousands of runs costs one small
+ * file read.
+ *
+ * <p>
+ * Per test the index keeps run, failure and flake counts (a flake is a run
+ * where the test failed and then passed on a rerun), the time lost to failed
+ * attempts, and the outcomes of the last {@code flakiness.window} runs.
+ * Failures are clustered by message signature: the first line of the
+ * message with numbers, quoted values and URLs masked, so the same error on
+ * different pages or timeouts lands in one cluster.
+ *
+ * <p>
+ * Once the log passes {@code flakiness.rotate.bytes} it is moved to
+ * outcomes.jsonl.1; the index keeps its totals. Deleting the index rebuilds
+ * it from the current log.
+ */
+public final class FlakinessStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlakinessStore.class);
+    private static final String LOG_FILE = "outcomes.jsonl";
+    private static final String INDEX_FILE = "flakiness-index.json";
+    private static final Gson gson = new Gson();
+    private static final int TESTS_PER_CLUSTER = 20;
+
+    private final Path log;
+    private final Path indexFile;
+    private final int window;
+    private final long rotateBytes;
+
+    /**
+     * Create a store in the configured history directory.
+     */
+    public FlakinessStore() {
+        this(Paths.get(ReportingUtil.getHistoryDir()),
+                ConfigReader.getInt("flakiness.window", 50),
+                ConfigReader.getInt("flakiness.rotate.bytes", 50_000_000));
+    }
+
+    /**
+     * Create a store in a specific directory.
+     *
+     * @param directory   directory of the log and the index
+     * @param window      number of recent outcomes kept per test
+     * @param rotateBytes log size above which the log is rotated
+     */
+    public FlakinessStore(final Path directory, final int window, final long rotateBytes) {
+        this.log = directory.resolve(LOG_FILE);
+        this.indexFile = directory.resolve(INDEX_FILE);
+        this.window = window;
+        this.rotateBytes = rotateBytes;
+    }
+
+    /**
+     * Append the outcomes of a run and bring the index up to date.
+     *
+     * @param outcomes the outcomes of the run
+     * @return the updated index
+     */
+    public synchronized Index append(final Collection<Outcome> outcomes) {
+        try {
+            Files.createDirectories(log.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(log, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (final Outcome outcome : outcomes) {
+                    writer.write(gson.toJson(outcome));
+                    writer.write('\n');
+                }
+            }
+        } catch (final IOException e) {
+            logger.error("Failed to append test outcomes: {}", log, e);
+        }
+
+        final Index index = index();
+        rotateIfNeeded(index);
+        return index;
+    }
+
+    /**
+     * Load the index, folding in any outcomes appended since it was saved.
+     *
+     * @return the index
+     */
+    public synchronized Index index() {
+        Index index = loadIndex();
+        final long size = sizeOf(log);
+        if (size < index.offset) {
+            // The log was replaced or truncated outside this store: rebuild from what is left
+            logger.warn("Outcome log {} is shorter than the index offset - rebuilding flakiness index", log);
+            index = new Index();
+        }
+        if (size == index.offset) {
+            return index;
+        }
+
+        final long start = System.currentTimeMillis();
+        int folded = 0;
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.READ);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(
+                        Channels.newInputStream(channel.position(index.offset)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final long next = index.offset + line.getBytes(StandardCharsets.UTF_8).length + 1;
+                if (next > size) {
+                    // Partial last line (still being written); picked up next time
+                    break;
+                }
+                final Outcome outcome = parse(line);
+                if (outcome != null) {
+                    fold(index, outcome);
+                    folded++;
+                }
+                index.offset = next;
+            }
+        } catch (final IOException e) {
+            logger.warn("Failed to read test outcomes: {}", log, e);
+            return index;
+        }
+
+        saveIndex(index);
+        logger.debug("✓ Flakiness index updated with {} outcomes in {} ms",
+                folded, System.currentTimeMillis() - start);
+        return index;
+    }
+
+    private void fold(final Index index, final Outcome outcome) {
+        if (outcome.run != index.lastRun) {
+            index.runs++;
+            index.lastRun = outcome.run;
+        }
+
+        final TestStats stats = index.tests.computeIfAbsent(outcome.id, k -> new TestStats());
+        stats.name = outcome.name;
+        stats.runs++;
+        stats.lastSeen = outcome.run;
+        stats.lostMs += outcome.lost;
+        final char code;
+        if (outcome.flaky) {
+            stats.flakes++;
+            code = 'K';
+        } else if ("FAILED".equals(outcome.status)) {
+            stats.failures++;
+            code = 'F';
+        } else if ("SKIPPED".equals(outcome.status)) {
+            code = 'S';
+        } else {
+            code = 'P';
+        }
+        stats.recent = (stats.recent + code).substring(Math.max(0, stats.recent.length() + 1 - window));
+
+        if (outcome.msg != null) {
+            final String signature = signature(outcome.msg);
+            final Cluster cluster = index.clusters.computeIfAbsent(signature, k -> new Cluster());
+            cluster.count++;
+            cluster.lastSeen = outcome.run;
+            cluster.example = outcome.msg;
+            if (cluster.tests.size() < TESTS_PER_CLUSTER) {
+                cluster.tests.add(outcome.id);
+            }
+            stats.lastFailure = signature;
+        }
+    }
+
+    /**
+     * Failure signature used for clustering: first line of the message with
+     * quoted values, URLs and numbers masked.
+     *
+     * @param message the failure message
+     * @return the signature
+     */
+    public static String signature(final String message) {
+        final String firstLine = message.split("\n", 2)[0].trim();
+        final String masked = firstLine
+                .replaceAll("'[^']*'|\"[^\"]*\"", "{value}")
+                .replaceAll("https?://\\S+", "{url}")
+                .replaceAll("\\b0x[0-9a-fA-F]+\\b", "{n}")
+                .replaceAll("\\d+(\\.\\d+)?", "{n}")
+                .replaceAll("\\s+", " ");
+        return masked.length() > 200 ? masked.substring(0, 200) : masked;
+    }
+
+    private void rotateIfNeeded(final Index index) {
+        if (sizeOf(log) <= rotateBytes) {
+            return;
+        }
+        try {
+            Files.move(log, log.resolveSibling(LOG_FILE + ".1"), StandardCopyOption.REPLACE_EXISTING);
+            index.offset = 0;
+            saveIndex(index);
+            logger.info("✓ Rotated outcome log {} - flakiness totals kept in {}", log, indexFile);
+        } catch (final IOException e) {
+            logger.warn("Failed to rotate outcome log: {}", log, e);
+        }
+    }
+
+    private Index loadIndex() {
+        if (!Files.exists(indexFile)) {
+            return new Index();
+        }
+        try (Reader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            final Index index = gson.fromJson(reader, Index.class);
+            return index != null ? index : new Index();
+        } catch (final IOException | RuntimeException e) {
+            logger.warn("Failed to read flakiness index {} - rebuilding it", indexFile, e);
+            return new Index();
+        }
+    }
+
+    private void saveIndex(final Index index) {
+        final Path temp = indexFile.resolveSibling(INDEX_FILE + ".tmp");
+        try {
+            Files.createDirectories(indexFile.getParent());
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                gson.toJson(index, writer);
+            }
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            logger.error("Failed to write flakiness index: {}", indexFile, e);
+        }
+    }
+
+    private static long sizeOf(final Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0;
+        } catch (final IOException e) {
+            return 0;
+        }
+    }
+
+    private static Outcome parse(final String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            final Outcome outcome = gson.fromJson(line, Outcome.class);
+            return outcome != null && outcome.id != null ? outcome : null;
+        } catch (final RuntimeException e) {
+            logger.trace("Skipping malformed outcome line: {}", line, e);
+            return null;
+        }
+    }
+
+    /**
+     * Outcome of one test in one run.
+     */
+    public static final class Outcome {
+        final long run;
+        final String id;
+        final String name;
+        final String status;
+        final boolean flaky;
+        final long lost;
+        final String msg;
+
+        /**
+         * Create an outcome.
+         *
+         * @param run     run id (run start, epoch millis)
+         * @param id      the stable test id
+         * @param name    the test name
+         * @param status  final status (PASSED, FAILED, SKIPPED)
+         * @param flaky   true if the test failed and then passed on a rerun
+         * @param lostMs  time spent in failed attempts that were rerun
+         * @param message failure message (first failure for flaky tests), or null
+         */
+        public Outcome(
+                final long run,
+                final String id,
+                final String name,
+                final String status,
+                final boolean flaky,
+                final long lostMs,
+                final String message) {
+            this.run = run;
+            this.id = id;
+            this.name = name;
+            this.status = status;
+            this.flaky = flaky;
+            this.lost = lostMs;
+            this.msg = message;
+        }
+    }
+
+    /**
+     * Flakiness statistics of all runs folded so far.
+     */
+    public static final class Index {
+        long offset;
+        long runs;
+        long lastRun = -1;
+        Map<String, TestStats> tests = new LinkedHashMap<>();
+        Map<String, Cluster> clusters = new LinkedHashMap<>();
+
+        public long getRuns() {
+            return runs;
+        }
+
+        /**
+         * Tests that flaked at least once or flipped between passing and
+         * failing at least {@code flakiness.min.flips} (3) times across
+         * recent runs (without reruns, a flaky test never flakes; it fails
+         * one run and passes the next). A test that broke and was fixed
+         * flips twice and is not listed. Sorted by descending recent flake
+         * or flip rate, whichever is higher, then total time lost.
+         *
+         * @param limit maximum number of tests
+         * @return the flakiest tests
+         */
+        public List<FlakyTest> flakiest(final int limit) {
+            final int minFlips = ConfigReader.getInt("flakiness.min.flips", 3);
+            return tests.entrySet().stream()
+                    .map(entry -> new FlakyTest(entry.getKey(), entry.getValue(), clusters))
+                    .filter(test -> test.flakes > 0 || test.flips >= minFlips)
+                    .sorted(Comparator
+                            .comparingDouble((FlakyTest test) -> Math.max(test.recentFlakeRate, test.flipRate))
+                            .thenComparingLong(test -> test.lostMs).reversed())
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * Failure clusters by descending number of failures.
+         *
+         * @param limit maximum number of clusters
+         * @return the largest clusters
+         */
+        public List<FailureCluster> clusters(final int limit) {
+            return clusters.entrySet().stream()
+                    .map(entry -> new FailureCluster(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingLong((FailureCluster cluster) -> cluster.count).reversed())
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Indexed statistics of one test.
+     */
+    private static final class TestStats {
+        String name;
+        long runs;
+        long failures;
+        long flakes;
+        long lostMs;
+        long lastSeen;
+        String recent = "";
+        String lastFailure;
+    }
+
+    /**
+     * Indexed failures sharing one signature.
+     */
+    private static final class Cluster {
+        long count;
+        long lastSeen;
+        String example;
+        Set<String> tests = new LinkedHashSet<>();
+    }
+
+    /**
+     * Flakiness summary of one test, as reported.
+     */
+    public static final class FlakyTest {
+        final String id;
+        final String name;
+        final long runs;
+        final long flakes;
+        final long failures;
+        final double flakeRate;
+        final double recentFlakeRate;
+        final int flips;
+        final double flipRate;
+        final long lostMs;
+        final double meanLostMs;
+        final String recent;
+        final String lastFailure;
+
+        FlakyTest(final String id, final TestStats stats, final Map<String, Cluster> clusters) {
+            this.id = id;
+            this.name = stats.name;
+            this.runs = stats.runs;
+            this.flakes = stats.flakes;
+            this.failures = stats.failures;
+            this.flakeRate = stats.runs > 0 ? (double) stats.flakes / stats.runs : 0;
+            this.recentFlakeRate = stats.recent.isEmpty() ? 0
+                    : (double) stats.recent.chars().filter(c -> c == 'K').count() / stats.recent.length();
+            final String outcomes = stats.recent.replaceAll("[^PF]", "");
+            this.flips = flips(outcomes);
+            this.flipRate = outcomes.length() > 1 ? (double) flips / (outcomes.length() - 1) : 0;
+            this.lostMs = stats.lostMs;
+            final long rerunRuns = stats.flakes + stats.failures;
+            this.meanLostMs = rerunRuns > 0 ? (double) stats.lostMs / rerunRuns : 0;
+            this.recent = stats.recent;
+            this.lastFailure = stats.lastFailure;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getRuns() {
+            return runs;
+        }
+
+        public long getFlakes() {
+            return flakes;
+        }
+
+        public double getFlakeRate() {
+            return flakeRate;
+        }
+
+        public double getRecentFlakeRate() {
+            return recentFlakeRate;
+        }
+
+        /**
+         * Share of consecutive recent runs in which the test went from
+         * passing to failing or back. Skipped runs and runs that flaked are
+         * ignored.
+         *
+         * @return the flip rate, 0 to 1
+         */
+        public double getFlipRate() {
+            return flipRate;
+        }
+
+        public int getFlips() {
+            return flips;
+        }
+
+        public long getLostMs() {
+            return lostMs;
+        }
+
+        public double getMeanLostMs() {
+            return meanLostMs;
+        }
+
+        public String getRecent() {
+            return recent;
+        }
+
+        public String getLastFailure() {
+            return lastFailure;
+        }
+
+        /**
+         * Number of status changes between consecutive recent runs. Skipped
+         * runs and runs that flaked are ignored.
+         */
+        private static int flips(final String outcomes) {
+            int flips = 0;
+            for (int i = 1; i < outcomes.length(); i++) {
+                if (outcomes.charAt(i) != outcomes.charAt(i - 1)) {
+                    flips++;
+                }
+            }
+            return flips;
+        }
+    }
+
+    /**
+     * One failure cluster, as reported.
+     */
+    public static final class FailureCluster {
+        final String signature;
+        final long count;
+        final long lastSeen;
+        final String example;
+        final List<String> tests;
+
+        FailureCluster(final String signature, final Cluster cluster) {
+            this.signature = signature;
+            this.count = cluster.count;
+            this.lastSeen = cluster.lastSeen;
+            this.example = cluster.example;
+            this.tests = new ArrayList<>(cluster.tests);
+        }
+
+        public String getSignature() {
+            return signature;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public List<String> getTests() {
+            return tests;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Lightweight timing instrumentation for framework hot paths.
+ * Spans are measured with {@link System#nanoTime()} on a per-thread stack, so
+ * nested spans (step -> wait -> ...) keep their depth, and are collected per
+ * scenario between {@link #beginScenario()} and {@link #endScenario()}.
+ * When {@code instrumentation.enabled} is false (default) {@link #span(String)}
+ * returns a shared no-op span and costs a single static field check.
+ *
+ * <pre>
+ * try (Instrumentation.Span span = Instrumentation.span("CommonFunction.waitFor")) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class Instrumentation {
+
+    private static final boolean ENABLED = ConfigReader.getBoolean("instrumentation.enabled", false);
+    private static final ThreadLocal<Recorder> RECORDER = new ThreadLocal<>();
+    private static final Span NOOP = new Span(null, null, null, 0, 0);
+
+    private Instrumentation() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Check whether instrumentation is enabled.
+     *
+     * @return true if spans are recorded
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Start collecting spans for a scenario on the current thread.
+     */
+    public static void beginScenario() {
+        if (ENABLED) {
+            RECORDER.set(new Recorder());
+        }
+    }
+
+    /**
+     * Stop collecting spans on the current thread.
+     *
+     * @return the spans completed since {@link #beginScenario()}, in completion order
+     */
+    public static List<SpanRecord> endScenario() {
+        if (!ENABLED) {
+            return Collections.emptyList();
+        }
+        final Recorder recorder = RECORDER.get();
+        RECORDER.remove();
+        return recorder != null ? recorder.completed : Collections.emptyList();
+    }
+
+    /**
+     * Open a span. Close it (try-with-resources) to record its duration.
+     *
+     * @param name the span name, used as the aggregation key
+     * @return the span (a no-op outside a scenario or when disabled)
+     */
+    public static Span span(final String name) {
+        return span(name, null);
+    }
+
+    /**
+     * Open a span with a detail (e.g. the element description).
+     *
+     * @param name   the span name, used as the aggregation key
+     * @param detail free-form detail kept with the span record
+     * @return the span (a no-op outside a scenario or when disabled)
+     */
+    public static Span span(final String name, final String detail) {
+        if (!ENABLED) {
+            return NOOP;
+        }
+        final Recorder recorder = RECORDER.get();
+        if (recorder == null) {
+            return NOOP;
+        }
+        final Span span = new Span(recorder, name, detail, recorder.open.size(), System.nanoTime());
+        recorder.open.push(span);
+        return span;
+    }
+
+    /**
+     * Spans of the scenario running on the current thread.
+     */
+    private static final class Recorder {
+        final long startNanos = System.nanoTime();
+        final Deque<Span> open = new ArrayDeque<>();
+        final List<SpanRecord> completed = new ArrayList<>();
+    }
+
+    /**
+     * An open timing span.
+     */
+    public static final class Span implements AutoCloseable {
+        private final Recorder recorder;
+        private final String name;
+        private final String detail;
+        private final int depth;
+        private final long startNanos;
+        private boolean closed;
+
+        private Span(
+                final Recorder recorder,
+                final String name,
+                final String detail,
+                final int depth,
+                final long startNanos) {
+            this.recorder = recorder;
+            this.name = name;
+            this.detail = detail;
+            this.depth = depth;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (recorder == null || closed) {
+                return;
+            }
+            closed = true;
+            final long endNanos = System.nanoTime();
+            recorder.open.remove(this);
+            recorder.completed.add(new SpanRecord(name, detail, depth,
+                    (startNanos - recorder.startNanos) / 1_000_000.0,
+                    (endNanos - startNanos) / 1_000_000.0));
+        }
+    }
+
+    /**
+     * A completed span, in milliseconds relative to the scenario start.
+     */
+    public static final class SpanRecord {
+        final String name;
+        final String detail;
+        final int depth;
+        final double startMs;
+        final double durationMs;
+
+        SpanRecord(
+                final String name,
+                final String detail,
+                final int depth,
+                final double startMs,
+                final double durationMs) {
+            this.name = name;
+            this.detail = detail;
+            this.depth = depth;
+            this.startMs = startMs;
+            this.durationMs = durationMs;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getDurationMs() {
+            return durationMs;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package utils;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process metrics for test runs: counters, gauges and histograms exported
+ * in the OpenMetrics (Prometheus) text format.
+ * Updates are lock-free ({@link LongAdder}/{@link DoubleAdder}), so metrics can
+ * be recorded from parallel scenarios. The exposition is written to
+ * {@code metrics.dir} at the end of the run and, when {@code metrics.http.port}
+ * is set, served on {@code http://localhost:<port>/metrics} while the run is in
+ * progress.
+ *
+ * <pre>
+ * private static final MetricsRegistry.Counter RETRIES =
+ *         MetricsRegistry.counter("playwright_retry_attempts", "Retried attempts");
+ * RETRIES.inc();
+ * </pre>
+ */
+public final class MetricsRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsRegistry.class);
+    private static final String FILE_NAME = "metrics.prom";
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    /** Default histogram buckets, in seconds. */
+    public static final double[] DEFAULT_BUCKETS = {0.01, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30};
+
+    private static final Map<String, Family> families = new ConcurrentHashMap<>();
+    private static HttpServer httpServer;
+
+    private MetricsRegistry() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Get or create a counter.
+     *
+     * @param name   metric name, without the {@code _total} suffix
+     * @param help   help text
+     * @param labels label names and values, alternating
+     * @return the counter
+     */
+    public static Counter counter(final String name, final String help, final String... labels) {
+        return (Counter) family(name, help, "counter", null).child(labels);
+    }
+
+    /**
+     * Get or create a gauge.
+     *
+     * @param name   metric name
+     * @param help   help text
+     * @param labels label names and values, alternating
+     * @return the gauge
+     */
+    public static Gauge gauge(final String name, final String help, final String... labels) {
+        return (Gauge) family(name, help, "gauge", null).child(labels);
+    }
+
+    /**
+     * Get or create a histogram with the default buckets.
+     *
+     * @param name   metric name, with a unit suffix such as {@code _seconds}
+     * @param help   help text
+     * @param labels label names and values, alternating
+     * @return the histogram
+     */
+    public static Histogram histogram(final String name, final String help, final String... labels) {
+        return histogram(name, help, DEFAULT_BUCKETS, labels);
+    }
+
+    /**
+     * Get or create a histogram.
+     *
+     * @param name    metric name, with a unit suffix such as {@code _seconds}
+     * @param help    help text
+     * @param buckets ascending bucket upper bounds ({@code +Inf} is implicit)
+     * @param labels  label names and values, alternating
+     * @return the histogram
+     */
+    public static Histogram histogram(
+            final String name,
+            final String help,
+            final double[] buckets,
+            final String... labels) {
+        return (Histogram) family(name, help, "histogram", buckets).child(labels);
+    }
+
+    private static Family family(final String name, final String help, final String type, final double[] buckets) {
+        final Family family = families.computeIfAbsent(name, n -> new Family(n, help, type, buckets));
+        if (!family.type.equals(type)) {
+            throw new IllegalArgumentException(
+                    String.format("Metric %s is already registered as a %s", name, family.type));
+        }
+        return family;
+    }
+
+    /**
+     * Render all metrics in the OpenMetrics text format.
+     *
+     * @return the exposition, terminated by {@code # EOF}
+     */
+    public static String scrape() {
+        final StringBuilder out = new StringBuilder();
+        new TreeMap<>(families).values().forEach(family -> family.write(out));
+        out.append("# EOF\n");
+        return out.toString();
+    }
+
+    /**
+     * Start the HTTP endpoint if {@code metrics.http.port} is configured.
+     */
+    public static synchronized void initialize() {
+        final int port = ConfigReader.getInt("metrics.http.port", 0);
+        if (port <= 0 || httpServer != null) {
+            return;
+        }
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            httpServer.createContext("/metrics", exchange -> {
+                final byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+            });
+            httpServer.start();
+            logger.info("✓ Metrics endpoint started: http://localhost:{}/metrics", port);
+        } catch (final IOException e) {
+            httpServer = null;
+            logger.warn("Failed to start metrics endpoint on port {}", port, e);
+        }
+    }
+
+    /**
+     * Write the exposition to {@code metrics.dir} and stop the HTTP endpoint.
+     *
+     * @return path to the metrics file, or null if it could not be written
+     */
+    public static synchronized String export() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+
+        final Path dir = Paths.get(ConfigReader.get("metrics.dir", "target/metrics"));
+        final Path file = dir.resolve(FILE_NAME);
+        try {
+            Files.createDirectories(dir);
+            // Write atomically so a node-exporter textfile collector never reads a partial file
+            final Path temp = dir.resolve(FILE_NAME + ".tmp");
+            Files.writeString(temp, scrape(), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("✓ Metrics exported: {}", file);
+            return file.toString();
+        } catch (final IOException e) {
+            logger.error("Failed to export metrics: {}", file, e);
+            return null;
+        }
+    }
+
+    private static String escape(final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String format(final double value) {
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    /**
+     * A metric name with its help, type and labelled children.
+     */
+    private static final class Family {
+        final String name;
+        final String help;
+        final String type;
+        final double[] buckets;
+        final Map<String, Object> children = new ConcurrentHashMap<>();
+
+        Family(final String name, final String help, final String type, final double[] buckets) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.buckets = buckets;
+        }
+
+        Object child(final String... labels) {
+            if (labels.length % 2 != 0) {
+                throw new IllegalArgumentException("Labels must be name/value pairs: " + Arrays.toString(labels));
+            }
+            final StringBuilder key = new StringBuilder();
+            for (int i = 0; i < labels.length; i += 2) {
+                key.append(key.length() == 0 ? "" : ",")
+                        .append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+            }
+            return children.computeIfAbsent(key.toString(), k -> {
+                switch (type) {
+                    case "counter":
+                        return new Counter();
+                    case "gauge":
+                        return new Gauge();
+                    default:
+                        return new Histogram(buckets);
+                }
+            });
+        }
+
+        void write(final StringBuilder out) {
+            out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            out.append("# HELP ").append(name).append(' ').append(escape(help)).append('\n');
+            new TreeMap<>(children).forEach((labels, metric) -> {
+                if (metric instanceof Counter) {
+                    sample(out, name + "_total", labels, Long.toString(((Counter) metric).get()));
+                } else if (metric instanceof Gauge) {
+                    sample(out, name, labels, Long.toString(((Gauge) metric).get()));
+                } else {
+                    ((Histogram) metric).write(out, name, labels);
+                }
+            });
+        }
+    }
+
+    private static void sample(final StringBuilder out, final String name, final String labels, final String value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    /**
+     * Monotonically increasing count.
+     */
+    public static final class Counter {
+        private final LongAdder value = new LongAdder();
+
+        public void inc() {
+            value.increment();
+        }
+
+        public void inc(final long amount) {
+            value.add(amount);
+        }
+
+        public long get() {
+            return value.sum();
+        }
+    }
+
+    /**
+     * Value that can go up and down.
+     */
+    public static final class Gauge {
+        private final AtomicLong value = new AtomicLong();
+
+        public void set(final long newValue) {
+            value.set(newValue);
+        }
+
+        public void inc() {
+            value.incrementAndGet();
+        }
+
+        public void dec() {
+            value.decrementAndGet();
+        }
+
+        public long get() {
+            return value.get();
+        }
+    }
+
+    /**
+     * Distribution of observed values in cumulative buckets.
+     */
+    public static final class Histogram {
+        private final double[] bounds;
+        private final LongAdder[] counts;
+        private final LongAdder count = new LongAdder();
+        private final DoubleAdder sum = new DoubleAdder();
+
+        private Histogram(final double[] bounds) {
+            this.bounds = bounds;
+            this.counts = new LongAdder[bounds.length];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Record an observation.
+         *
+         * @param value the observed value, in the unit of the metric
+         */
+        public void observe(final double value) {
+            for (int i = 0; i < bounds.length; i++) {
+                if (value <= bounds[i]) {
+                    counts[i].increment();
+                    break;
+                }
+            }
+            count.increment();
+            sum.add(value);
+        }
+
+        /**
+         * Record a duration in milliseconds on a {@code _seconds} histogram.
+         *
+         * @param millis the duration in milliseconds
+         */
+        public void observeMillis(final long millis) {
+            observe(millis / 1000.0);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        void write(final StringBuilder out, final String name, final String labels) {
+            final String prefix = labels.isEmpty() ? "" : labels + ",";
+            long cumulative = 0;
+            for (int i = 0; i < bounds.length; i++) {
+                cumulative += counts[i].sum();
+                sample(out, name + "_bucket", prefix + "le=\"" + format(bounds[i]) + "\"", Long.toString(cumulative));
+            }
+            // Buckets and count are updated independently; never report +Inf below a bucket
+            final long total = Math.max(count.sum(), cumulative);
+            sample(out, name + "_bucket", prefix + "le=\"+Inf\"", Long.toString(total));
+            sample(out, name + "_count", labels, Long.toString(total));
+            sample(out, name + "_sum", labels, Double.toString(sum.sum()));
+        }
+    }
+}
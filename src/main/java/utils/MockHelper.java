@@ -14,6 +14,12 @@ import java.util.Map;
 public final class MockHelper {
 
     private static final Logger logger = LoggerFactory.getLogger(MockHelper.class);
+    private static final MetricsRegistry.Counter ROUTES_FULFILLED = MetricsRegistry.counter(
+            "mock_route_hits", "Requests answered by mocked routes", "action", "fulfill");
+    private static final MetricsRegistry.Counter ROUTES_ABORTED = MetricsRegistry.counter(
+            "mock_route_hits", "Requests answered by mocked routes", "action", "abort");
+    private static final MetricsRegistry.Counter ROUTES_REGISTERED = MetricsRegistry.counter(
+            "mock_routes_registered", "Mocked routes registered on pages");
 
     private MockHelper() {
         // Utility class - no instantiation
@@ -32,6 +38,7 @@ public final class MockHelper {
             final String urlPattern,
             final String responseJson,
             final int statusCode) {
+        ROUTES_REGISTERED.inc();
         page.route(urlPattern, route -> {
             final Map<String, String> headers = new HashMap<>();
             headers.put("Content-Type", "application/json");
@@ -40,6 +47,7 @@ public final class MockHelper {
                     .setStatus(statusCode)
                     .setHeaders(headers)
                     .setBody(responseJson));
+            ROUTES_FULFILLED.inc();
             logger.debug("✓ Mocked route: {} -> {}", urlPattern, statusCode);
         });
     }
@@ -85,8 +93,10 @@ public final class MockHelper {
      * @param urlPattern the URL pattern to match (regex)
      */
     public static void mockRouteAbort(final Page page, final String urlPattern) {
+        ROUTES_REGISTERED.inc();
         page.route(urlPattern, route -> {
             route.abort();
+            ROUTES_ABORTED.inc();
             logger.debug("✓ Aborted route: {}", urlPattern);
         });
     }
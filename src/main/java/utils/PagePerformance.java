@@ -0,0 +1,277 @@
+package utils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Page;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Front-end performance capture for page objects.
+ * After a navigation, {@link #capture(Page, String)} reads Navigation Timing,
+ * Resource Timing, paint timing and, where the browser supports them
+ * (Chromium), Largest Contentful Paint and Cumulative Layout Shift through
+ * buffered PerformanceObservers. Snapshots are kept per scenario on the
+ * current thread and picked up by the reporting plugin when the scenario
+ * finishes.
+ *
+ * <p>
+ * Thresholds ({@code perf.threshold.<metric>}, 0 disables) are checked on
+ * every capture; breaches fail the step when {@code perf.strict.mode} is true
+ * and are logged otherwise, like accessibility violations.
+ */
+public final class PagePerformance {
+
+    private static final Logger logger = LoggerFactory.getLogger(PagePerformance.class);
+    private static final Gson gson = new Gson();
+    private static final ThreadLocal<List<Snapshot>> SCENARIO_SNAPSHOTS = ThreadLocal.withInitial(ArrayList::new);
+
+    /** Time to first byte, ms. */
+    public static final String TTFB = "ttfb";
+    /** DOMContentLoaded end, ms since navigation start. */
+    public static final String DOM_CONTENT_LOADED = "domContentLoaded";
+    /** Load event end, ms since navigation start. */
+    public static final String LOAD = "load";
+    /** First contentful paint, ms. */
+    public static final String FCP = "fcp";
+    /** Largest contentful paint, ms (Chromium only). */
+    public static final String LCP = "lcp";
+    /** Cumulative layout shift, unitless (Chromium only). */
+    public static final String CLS = "cls";
+    /** Bytes transferred for the document and its resources. */
+    public static final String TRANSFER_BYTES = "transferBytes";
+    /** Number of resource requests. */
+    public static final String REQUESTS = "requests";
+
+    private static final List<String> THRESHOLD_METRICS = List.of(TTFB, DOM_CONTENT_LOADED, LOAD, FCP, LCP, CLS);
+
+    private static final String CAPTURE_SCRIPT = "() => new Promise(resolve => {\n"
+            + "  const m = {};\n"
+            + "  const nav = performance.getEntriesByType('navigation')[0];\n"
+            + "  if (nav) {\n"
+            + "    m.ttfb = nav.responseStart;\n"
+            + "    m.domContentLoaded = nav.domContentLoadedEventEnd;\n"
+            + "    if (nav.loadEventEnd > 0) { m.load = nav.loadEventEnd; }\n"
+            + "  }\n"
+            + "  performance.getEntriesByType('paint')\n"
+            + "    .filter(p => p.name === 'first-contentful-paint').forEach(p => { m.fcp = p.startTime; });\n"
+            + "  const resources = performance.getEntriesByType('resource');\n"
+            + "  m.requests = resources.length;\n"
+            + "  m.transferBytes = resources.reduce((sum, r) => sum + (r.transferSize || 0),"
+            + " nav ? (nav.transferSize || 0) : 0);\n"
+            + "  const slowest = resources.slice().sort((a, b) => b.duration - a.duration).slice(0, 5)\n"
+            + "    .map(r => ({ name: r.name, type: r.initiatorType, durationMs: r.duration,"
+            + " transferBytes: r.transferSize || 0 }));\n"
+            + "  const supported = PerformanceObserver.supportedEntryTypes || [];\n"
+            + "  const observers = [];\n"
+            + "  const observe = (type, handle) => {\n"
+            + "    if (!supported.includes(type)) { return; }\n"
+            + "    const observer = new PerformanceObserver(list => list.getEntries().forEach(handle));\n"
+            + "    observer.observe({ type: type, buffered: true });\n"
+            + "    observers.push([observer, handle]);\n"
+            + "  };\n"
+            + "  observe('largest-contentful-paint', e => { m.lcp = e.renderTime || e.loadTime || e.startTime; });\n"
+            + "  observe('layout-shift', e => { if (!e.hadRecentInput) { m.cls = (m.cls || 0) + e.value; } });\n"
+            + "  if (supported.includes('layout-shift') && m.cls === undefined) { m.cls = 0; }\n"
+            + "  setTimeout(() => {\n"
+            + "    observers.forEach(([observer, handle]) => {\n"
+            + "      observer.takeRecords().forEach(handle);\n"
+            + "      observer.disconnect();\n"
+            + "    });\n"
+            + "    resolve(JSON.stringify({ metrics: m, slowestResources: slowest }));\n"
+            + "  }, 50);\n"
+            + "})";
+
+    private PagePerformance() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Check whether page objects should capture performance after navigation.
+     *
+     * @return true if {@code perf.capture.enabled} is set
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("perf.capture.enabled", false);
+    }
+
+    /**
+     * Capture performance metrics of the current document and check the
+     * configured thresholds.
+     *
+     * @param page     the Playwright page, after navigation
+     * @param pageName the name of the page
+     * @return the captured snapshot
+     */
+    public static Snapshot capture(final Page page, final String pageName) {
+        final Snapshot snapshot;
+        try (Instrumentation.Span span = Instrumentation.span("PagePerformance.capture", pageName)) {
+            snapshot = read(page, pageName);
+        }
+
+        SCENARIO_SNAPSHOTS.get().add(snapshot);
+        final Double load = snapshot.get(LOAD);
+        if (load != null) {
+            MetricsRegistry.histogram("page_load_duration_seconds", "Page load event end after navigation start",
+                    "page", pageName).observe(load / 1000.0);
+        }
+        logger.info("[PERF][{}] TTFB {} ms | load {} ms | FCP {} ms | LCP {} ms | CLS {} | {} requests, {} bytes",
+                pageName, format(snapshot.get(TTFB)), format(snapshot.get(LOAD)), format(snapshot.get(FCP)),
+                format(snapshot.get(LCP)), snapshot.get(CLS) != null ? String.format("%.3f", snapshot.get(CLS)) : "-",
+                format(snapshot.get(REQUESTS)), format(snapshot.get(TRANSFER_BYTES)));
+
+        checkThresholds(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Read the performance metrics of the current document without
+     * recording them for the scenario or checking thresholds.
+     *
+     * @param page     the Playwright page, after navigation
+     * @param pageName the name of the page
+     * @return the snapshot
+     */
+    public static Snapshot read(final Page page, final String pageName) {
+        final JsonObject json = gson.fromJson((String) page.evaluate(CAPTURE_SCRIPT), JsonObject.class);
+        final Snapshot snapshot = new Snapshot(pageName, page.url());
+        for (final Map.Entry<String, JsonElement> metric : json.getAsJsonObject("metrics").entrySet()) {
+            snapshot.metrics.put(metric.getKey(), metric.getValue().getAsDouble());
+        }
+        json.getAsJsonArray("slowestResources").forEach(resource -> snapshot.slowestResources.add(
+                gson.fromJson(resource, Resource.class)));
+        return snapshot;
+    }
+
+    /**
+     * Check a snapshot against the configured {@code perf.threshold.<metric>}
+     * values. Fails only when {@code perf.strict.mode} is enabled.
+     *
+     * @param snapshot the captured snapshot
+     */
+    public static void checkThresholds(final Snapshot snapshot) {
+        final List<String> breaches = new ArrayList<>();
+        for (final String metric : THRESHOLD_METRICS) {
+            final double limit = Double.parseDouble(ConfigReader.get("perf.threshold." + metric, "0"));
+            final Double value = snapshot.get(metric);
+            if (limit > 0 && value != null && value > limit) {
+                breaches.add(String.format("%s %.1f > %.1f", metric, value, limit));
+            }
+        }
+        if (breaches.isEmpty()) {
+            return;
+        }
+
+        final String message = String.format("Performance thresholds exceeded on %s: %s",
+                snapshot.page, String.join(", ", breaches));
+        if (ConfigReader.getBoolean("perf.strict.mode", false)) {
+            logger.error(message);
+            throw new AssertionError(message);
+        }
+        logger.warn(message);
+    }
+
+    /**
+     * Assert that a metric of a snapshot is at or below a limit.
+     *
+     * @param snapshot the captured snapshot
+     * @param metric   the metric name (e.g. {@link #LCP})
+     * @param limit    the maximum allowed value
+     */
+    public static void assertMetricBelow(final Snapshot snapshot, final String metric, final double limit) {
+        final Double value = snapshot.get(metric);
+        if (value == null) {
+            final String message = String.format("Metric %s was not captured on %s", metric, snapshot.page);
+            logger.error(message);
+            throw new AssertionError(message);
+        }
+        if (value > limit) {
+            final String message = String.format("Expected %s on %s to be at most %.1f but was %.1f",
+                    metric, snapshot.page, limit, value);
+            logger.error(message);
+            throw new AssertionError(message);
+        }
+        logger.debug("✓ {} on {}: {} <= {}", metric, snapshot.page, value, limit);
+    }
+
+    /**
+     * Most recent snapshot captured in the current scenario.
+     *
+     * @return the snapshot, or null if nothing was captured
+     */
+    public static Snapshot last() {
+        final List<Snapshot> snapshots = SCENARIO_SNAPSHOTS.get();
+        return snapshots.isEmpty() ? null : snapshots.get(snapshots.size() - 1);
+    }
+
+    /**
+     * Take and clear the snapshots captured on the current thread.
+     *
+     * @return the snapshots of the finished scenario
+     */
+    public static List<Snapshot> endScenario() {
+        final List<Snapshot> snapshots = SCENARIO_SNAPSHOTS.get();
+        if (snapshots.isEmpty()) {
+            return Collections.emptyList();
+        }
+        SCENARIO_SNAPSHOTS.remove();
+        return snapshots;
+    }
+
+    private static String format(final Double value) {
+        return value != null ? String.format("%.0f", value) : "-";
+    }
+
+    /**
+     * Performance metrics of one page load.
+     */
+    public static final class Snapshot {
+        final String page;
+        final String url;
+        final Map<String, Double> metrics = new LinkedHashMap<>();
+        final List<Resource> slowestResources = new ArrayList<>();
+
+        Snapshot(final String page, final String url) {
+            this.page = page;
+            this.url = url;
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * Get a metric value.
+         *
+         * @param metric the metric name
+         * @return the value, or null if the browser did not report it
+         */
+        public Double get(final String metric) {
+            return metrics.get(metric);
+        }
+
+        public Map<String, Double> getMetrics() {
+            return Collections.unmodifiableMap(metrics);
+        }
+    }
+
+    /**
+     * A slow resource of a page load.
+     */
+    public static final class Resource {
+        String name;
+        String type;
+        double durationMs;
+        long transferBytes;
+    }
+}
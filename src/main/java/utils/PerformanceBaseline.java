@@ -0,0 +1,321 @@
+package utils;
+
+import com.google.gson.Gson;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rolling performance baseline of previous runs and regression detection.
+ * Samples are keyed by kind and name: {@code scenario:<id>} (duration of
+ * passing scenarios, ms), {@code step:<pattern>} (duration of passing steps,
+ * ms) and {@code page:<name>:<metric>} (page timings). Each run appends its
+ * samples to baseline.jsonl in the history directory; the samples of the
+ * last {@code baseline.window} runs per key form the baseline (a step that
+ * runs several times in a run contributes several samples, but still one
+ * run).
+ *
+ * <p>
+ * A key regresses when the median of the current run exceeds the baseline
+ * median by more than {@code baseline.tolerance.pct}, is above the baseline
+ * p95 (outside normal noise) and differs by at least {@code baseline.min.delta.ms}.
+ * Keys with fewer than {@code baseline.min.samples} samples are not compared.
+ */
+public final class PerformanceBaseline {
+
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceBaseline.class);
+    private static final String FILE_NAME = "baseline.jsonl";
+    private static final double MIN_DELTA_CLS = 0.01;
+    private static final Gson gson = new Gson();
+
+    private final Path file;
+    private final int window;
+    private final int compactThreshold;
+    private final double tolerancePct;
+    private final int minSamples;
+    private final double minDeltaMs;
+
+    /**
+     * Create a baseline in the configured history directory.
+     */
+    public PerformanceBaseline() {
+        this(Paths.get(ReportingUtil.getHistoryDir(), FILE_NAME),
+                ConfigReader.getInt("baseline.window", 20),
+                ConfigReader.getInt("baseline.compact.threshold", 20000),
+                Double.parseDouble(ConfigReader.get("baseline.tolerance.pct", "20")),
+                ConfigReader.getInt("baseline.min.samples", 3),
+                Double.parseDouble(ConfigReader.get("baseline.min.delta.ms", "50")));
+    }
+
+    /**
+     * Create a baseline backed by a specific file.
+     *
+     * @param file             the JSONL file
+     * @param window           number of recent runs kept per key
+     * @param compactThreshold line count above which the file is compacted
+     * @param tolerancePct     allowed slowdown of the median, in percent
+     * @param minSamples       samples required before a key is compared
+     * @param minDeltaMs       smallest absolute slowdown reported, in ms
+     */
+    public PerformanceBaseline(
+            final Path file,
+            final int window,
+            final int compactThreshold,
+            final double tolerancePct,
+            final int minSamples,
+            final double minDeltaMs) {
+        this.file = file;
+        this.window = window;
+        this.compactThreshold = compactThreshold;
+        this.tolerancePct = tolerancePct;
+        this.minSamples = minSamples;
+        this.minDeltaMs = minDeltaMs;
+    }
+
+    /**
+     * Compare the current run with the baseline.
+     *
+     * @param current samples of the current run by key
+     * @return regressions, largest relative slowdown first
+     */
+    public List<Regression> compare(final Map<String, List<Double>> current) {
+        final Map<String, List<Double>> baseline = load();
+        final List<Regression> regressions = new ArrayList<>();
+        current.forEach((key, values) -> {
+            final List<Double> history = baseline.get(key);
+            if (history == null || history.size() < minSamples || values.isEmpty()) {
+                return;
+            }
+            final double[] sorted = history.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+            final double median = percentile(sorted, 50);
+            final double p95 = percentile(sorted, 95);
+            final double value = percentile(values.stream().mapToDouble(Double::doubleValue).sorted().toArray(), 50);
+            final double minDelta = key.endsWith(":" + PagePerformance.CLS) ? MIN_DELTA_CLS : minDeltaMs;
+
+            if (value > median * (1 + tolerancePct / 100) && value > p95 && value - median >= minDelta) {
+                regressions.add(new Regression(key, median, p95, value, sorted.length));
+            }
+        });
+        regressions.sort((a, b) -> Double.compare(b.changePct, a.changePct));
+        logger.info("✓ Compared {} metrics with baseline: {} regressions", current.size(), regressions.size());
+        return regressions;
+    }
+
+    /**
+     * Append the samples of the current run, compacting the file if needed.
+     *
+     * @param samples samples by key
+     */
+    public synchronized void append(final Map<String, List<Double>> samples) {
+        if (samples.isEmpty()) {
+            return;
+        }
+
+        final long timestamp = System.currentTimeMillis();
+        try {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (final Map.Entry<String, List<Double>> entry : samples.entrySet()) {
+                    for (final Double value : entry.getValue()) {
+                        writer.write(gson.toJson(new Sample(entry.getKey(), value, timestamp)));
+                        writer.newLine();
+                    }
+                }
+            }
+            logger.debug("✓ Appended baseline samples for {} keys to {}", samples.size(), file);
+            compactIfNeeded();
+        } catch (final IOException e) {
+            logger.error("Failed to append baseline samples: {}", file, e);
+        }
+    }
+
+    /**
+     * Load the samples of the most recent runs per key, oldest first.
+     *
+     * @return map of key to its recent values
+     */
+    public synchronized Map<String, List<Double>> load() {
+        final Map<String, Deque<Sample>> recent = loadSamples();
+        final Map<String, List<Double>> result = new LinkedHashMap<>();
+        recent.forEach((key, samples) -> {
+            final List<Double> values = new ArrayList<>(samples.size());
+            samples.forEach(sample -> values.add(sample.value));
+            result.put(key, values);
+        });
+        return result;
+    }
+
+    private Map<String, Deque<Sample>> loadSamples() {
+        final Map<String, Deque<Sample>> recent = new LinkedHashMap<>();
+        if (!Files.exists(file)) {
+            return recent;
+        }
+        final Map<String, Integer> runs = new HashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final Sample sample = parse(line);
+                if (sample == null) {
+                    continue;
+                }
+                final Deque<Sample> samples = recent.computeIfAbsent(sample.key, k -> new ArrayDeque<>());
+                // Samples of one run share its timestamp
+                if (samples.isEmpty() || samples.peekLast().ts != sample.ts) {
+                    runs.merge(sample.key, 1, Integer::sum);
+                }
+                samples.addLast(sample);
+                if (runs.get(sample.key) > window) {
+                    final long oldest = samples.peekFirst().ts;
+                    while (samples.peekFirst().ts == oldest) {
+                        samples.removeFirst();
+                    }
+                    runs.merge(sample.key, -1, Integer::sum);
+                }
+            }
+        } catch (final IOException e) {
+            logger.warn("Failed to read performance baseline: {}", file, e);
+        }
+        return recent;
+    }
+
+    /**
+     * Rewrite the file keeping only the recent runs per key once it
+     * exceeds the compaction threshold.
+     *
+     * @throws IOException if the file cannot be rewritten
+     */
+    private void compactIfNeeded() throws IOException {
+        final long lines;
+        try (Stream<String> stream = Files.lines(file, StandardCharsets.UTF_8)) {
+            lines = stream.count();
+        }
+        if (lines <= compactThreshold) {
+            return;
+        }
+
+        final Map<String, Deque<Sample>> recent = loadSamples();
+        final Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+        long kept = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (final Deque<Sample> samples : recent.values()) {
+                for (final Sample sample : samples) {
+                    writer.write(gson.toJson(sample));
+                    writer.newLine();
+                    kept++;
+                }
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("✓ Compacted performance baseline: {} -> {} lines", lines, kept);
+    }
+
+    private static Sample parse(final String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            final Sample sample = gson.fromJson(line, Sample.class);
+            return sample != null && sample.key != null ? sample : null;
+        } catch (final RuntimeException e) {
+            logger.trace("Skipping malformed baseline line: {}", line, e);
+            return null;
+        }
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values.
+     *
+     * @param sorted     ascending values, not empty
+     * @param percentile the percentile (0-100)
+     * @return the value at that percentile
+     */
+    static double percentile(final double[] sorted, final double percentile) {
+        final int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    /**
+     * One recorded value.
+     */
+    private static final class Sample {
+        final String key;
+        final double value;
+        final long ts;
+
+        Sample(final String key, final double value, final long ts) {
+            this.key = key;
+            this.value = value;
+            this.ts = ts;
+        }
+    }
+
+    /**
+     * A metric that is slower than its baseline.
+     */
+    public static final class Regression {
+        final String key;
+        final double baselineMedian;
+        final double baselineP95;
+        final double current;
+        final double changePct;
+        final int baselineSamples;
+
+        Regression(
+                final String key,
+                final double baselineMedian,
+                final double baselineP95,
+                final double current,
+                final int baselineSamples) {
+            this.key = key;
+            this.baselineMedian = baselineMedian;
+            this.baselineP95 = baselineP95;
+            this.current = current;
+            this.changePct = baselineMedian > 0 ? (current - baselineMedian) * 100 / baselineMedian : 0;
+            this.baselineSamples = baselineSamples;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public double getBaselineMedian() {
+            return baselineMedian;
+        }
+
+        public double getBaselineP95() {
+            return baselineP95;
+        }
+
+        public double getCurrent() {
+            return current;
+        }
+
+        public double getChangePct() {
+            return changePct;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %.1f vs median %.1f (p95 %.1f, %+.0f%%)",
+                    key, current, baselineMedian, baselineP95, changePct);
+        }
+    }
+}
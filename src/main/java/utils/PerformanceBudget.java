@@ -0,0 +1,297 @@
+package utils;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Performance budgets per page, enforced like functional assertions.
+ * Budgets are read from performance-budgets.json on the classpath: an object
+ * keyed by page name (as used for accessibility scans) with {@code "*"} as the
+ * default for every page. Supported metrics are the {@link PagePerformance}
+ * timings ({@code ttfb}, {@code domContentLoaded}, {@code load}, {@code fcp},
+ * {@code lcp}, {@code cls}) plus {@code transferKb} and {@code requests}.
+ *
+ * <p>
+ * Transfer size is measured from the network: {@link #track(Page)} records
+ * finished requests, and a measurement covers the requests since the previous
+ * one. Resource Timing is used as a fallback for untracked pages. Violations
+ * are kept per scenario and reported by {@link ReportingUtil}.
+ */
+public final class PerformanceBudget {
+
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceBudget.class);
+    private static final String BUDGETS_FILE = "performance-budgets.json";
+    private static final String DEFAULT_PAGE = "*";
+    private static final ThreadLocal<List<Request>> TRACKED_REQUESTS = new ThreadLocal<>();
+    private static final ThreadLocal<List<Violation>> SCENARIO_VIOLATIONS = ThreadLocal.withInitial(ArrayList::new);
+    private static final MetricsRegistry.Counter VIOLATIONS = MetricsRegistry.counter(
+            "perf_budget_violations", "Performance budget violations");
+
+    /** Transferred kilobytes (document and resources). */
+    public static final String TRANSFER_KB = "transferKb";
+    /** Number of requests. */
+    public static final String REQUESTS = "requests";
+
+    private static Map<String, Map<String, Double>> budgets;
+
+    private PerformanceBudget() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Start recording the network requests of a page on the current thread.
+     *
+     * @param page the Playwright page, before navigation
+     */
+    public static void track(final Page page) {
+        final List<Request> requests = Collections.synchronizedList(new ArrayList<>());
+        TRACKED_REQUESTS.set(requests);
+        page.onRequestFinished(requests::add);
+        logger.debug("✓ Tracking network requests for performance budgets");
+    }
+
+    /**
+     * Measure the current page: timings from {@link PagePerformance} and
+     * transfer size from the tracked requests. The timings are only read;
+     * they are not recorded as another snapshot of the page, and the
+     * {@code perf.threshold.*} checks of {@link PagePerformance#capture}
+     * do not apply.
+     *
+     * @param page     the Playwright page
+     * @param pageName the page name, used to look up budgets
+     * @return the measurement
+     */
+    public static Measurement measure(final Page page, final String pageName) {
+        final PagePerformance.Snapshot snapshot = PagePerformance.read(page, pageName);
+        final Map<String, Double> metrics = new LinkedHashMap<>(snapshot.getMetrics());
+
+        final Double resourceTimingBytes = metrics.remove(PagePerformance.TRANSFER_BYTES);
+        final List<Request> tracked = TRACKED_REQUESTS.get();
+        if (tracked != null) {
+            final List<Request> requests;
+            synchronized (tracked) {
+                requests = new ArrayList<>(tracked);
+                tracked.clear();
+            }
+            long bytes = 0;
+            for (final Request request : requests) {
+                final Request.Sizes sizes = request.sizes();
+                bytes += Math.max(0, sizes.responseHeadersSize) + Math.max(0, sizes.responseBodySize);
+            }
+            metrics.put(REQUESTS, (double) requests.size());
+            metrics.put(TRANSFER_KB, bytes / 1024.0);
+        } else if (resourceTimingBytes != null) {
+            metrics.put(TRANSFER_KB, resourceTimingBytes / 1024.0);
+        }
+
+        logger.info("[PERF][{}] Measured {}", pageName, metrics);
+        return new Measurement(pageName, metrics);
+    }
+
+    /**
+     * Check a measurement against the budgets configured for its page.
+     * All violations are recorded before failing.
+     *
+     * @param measurement the measurement
+     * @throws AssertionError if any budget is exceeded
+     */
+    public static void assertWithinBudget(final Measurement measurement) {
+        final Map<String, Double> pageBudgets = budgetsFor(measurement.page);
+        if (pageBudgets.isEmpty()) {
+            logger.warn("No performance budgets defined for {} in {}", measurement.page, BUDGETS_FILE);
+            return;
+        }
+
+        final List<Violation> violations = new ArrayList<>();
+        pageBudgets.forEach((metric, budget) -> {
+            final Violation violation = check(measurement, metric, budget);
+            if (violation != null) {
+                violations.add(violation);
+            }
+        });
+        fail(violations);
+        logger.info("✓ {} within performance budget {}", measurement.page, pageBudgets);
+    }
+
+    /**
+     * Check a single metric against an explicit limit.
+     *
+     * @param measurement the measurement
+     * @param metric      the metric name
+     * @param limit       the maximum allowed value
+     * @throws AssertionError if the limit is exceeded or the metric is missing
+     */
+    public static void assertWithin(final Measurement measurement, final String metric, final double limit) {
+        if (measurement.get(metric) == null) {
+            final String message = String.format("Metric %s was not measured on %s", metric, measurement.page);
+            logger.error(message);
+            throw new AssertionError(message);
+        }
+        final Violation violation = check(measurement, metric, limit);
+        if (violation != null) {
+            fail(List.of(violation));
+        }
+        logger.info("✓ {} {} within {}", measurement.page, metric, limit);
+    }
+
+    /**
+     * Budgets for a page: the defaults overridden by page-specific values.
+     *
+     * @param pageName the page name
+     * @return map of metric to budget
+     */
+    public static Map<String, Double> budgetsFor(final String pageName) {
+        final Map<String, Map<String, Double>> all = loadBudgets();
+        final Map<String, Double> result = new LinkedHashMap<>(all.getOrDefault(DEFAULT_PAGE, Map.of()));
+        result.putAll(all.getOrDefault(pageName, Map.of()));
+        return result;
+    }
+
+    /**
+     * Take and clear the violations recorded on the current thread.
+     *
+     * @return the violations of the finished scenario
+     */
+    public static List<Violation> endScenario() {
+        final List<Violation> violations = SCENARIO_VIOLATIONS.get();
+        TRACKED_REQUESTS.remove();
+        if (violations.isEmpty()) {
+            return Collections.emptyList();
+        }
+        SCENARIO_VIOLATIONS.remove();
+        return violations;
+    }
+
+    private static Violation check(final Measurement measurement, final String metric, final double budget) {
+        final Double actual = measurement.get(metric);
+        if (actual == null) {
+            // Missing metrics (e.g. LCP outside Chromium) cannot be enforced
+            logger.warn("[PERF][{}] Metric {} not available - budget {} not checked", measurement.page, metric,
+                    budget);
+            return null;
+        }
+        return actual > budget ? new Violation(measurement.page, metric, budget, actual) : null;
+    }
+
+    private static void fail(final List<Violation> violations) {
+        if (violations.isEmpty()) {
+            return;
+        }
+        SCENARIO_VIOLATIONS.get().addAll(violations);
+        VIOLATIONS.inc(violations.size());
+
+        final StringBuilder message = new StringBuilder("Performance budget exceeded on ")
+                .append(violations.get(0).page).append(':');
+        for (final Violation violation : violations) {
+            message.append(String.format(" %s %.1f > %.1f;", violation.metric, violation.actual, violation.budget));
+        }
+        logger.error(message.toString());
+        throw new AssertionError(message.toString());
+    }
+
+    private static synchronized Map<String, Map<String, Double>> loadBudgets() {
+        if (budgets != null) {
+            return budgets;
+        }
+        try (InputStream inputStream = PerformanceBudget.class.getClassLoader().getResourceAsStream(BUDGETS_FILE)) {
+            if (inputStream == null) {
+                logger.warn("{} not found in classpath - only explicit budgets apply", BUDGETS_FILE);
+                budgets = Collections.emptyMap();
+                return budgets;
+            }
+            final String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            final Map<String, Map<String, Double>> loaded = new Gson().fromJson(content,
+                    new TypeToken<LinkedHashMap<String, LinkedHashMap<String, Double>>>() {
+                    }.getType());
+            budgets = loaded != null ? loaded : Collections.emptyMap();
+            logger.info("✓ Loaded performance budgets for {} pages from {}", budgets.size(), BUDGETS_FILE);
+        } catch (final IOException | RuntimeException e) {
+            logger.error("Failed to load {}", BUDGETS_FILE, e);
+            budgets = Collections.emptyMap();
+        }
+        return budgets;
+    }
+
+    /**
+     * Metrics measured for one page.
+     */
+    public static final class Measurement {
+        final String page;
+        final Map<String, Double> metrics;
+
+        Measurement(final String page, final Map<String, Double> metrics) {
+            this.page = page;
+            this.metrics = metrics;
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        /**
+         * The same measurement attributed to a named page, so its budgets
+         * apply without measuring (and draining tracked requests) again.
+         *
+         * @param pageName the page name
+         * @return the relabelled measurement
+         */
+        public Measurement as(final String pageName) {
+            return new Measurement(pageName, metrics);
+        }
+
+        /**
+         * Get a metric value.
+         *
+         * @param metric the metric name
+         * @return the value, or null if it was not measured
+         */
+        public Double get(final String metric) {
+            return metrics.get(metric);
+        }
+    }
+
+    /**
+     * A metric that exceeded its budget.
+     */
+    public static final class Violation {
+        final String page;
+        final String metric;
+        final double budget;
+        final double actual;
+
+        Violation(final String page, final String metric, final double budget, final double actual) {
+            this.page = page;
+            this.metric = metric;
+            this.budget = budget;
+            this.actual = actual;
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public String getMetric() {
+            return metric;
+        }
+
+        public double getBudget() {
+            return budget;
+        }
+
+        public double getActual() {
+            return actual;
+        }
+    }
+}
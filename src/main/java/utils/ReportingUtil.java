@@ -11,8 +11,14 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,7 +33,22 @@ public final class ReportingUtil {
     private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
     private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
 
-    private static final List<TestResult> testResults = new ArrayList<>();
+    private static final List<TestResult> testResults = new CopyOnWriteArrayList<>();
+    private static final DurationStore durationStore = new DurationStore();
+    private static final FlakinessStore flakinessStore = new FlakinessStore();
+    private static final int FLAKINESS_REPORT_LIMIT = 20;
+    private static final Map<String, List<Instrumentation.SpanRecord>> scenarioSpans = new ConcurrentHashMap<>();
+    private static final Map<String, SpanStats> spanStats = new ConcurrentHashMap<>();
+    private static final Map<String, List<PagePerformance.Snapshot>> pagePerformance = new ConcurrentHashMap<>();
+    private static final Map<String, List<PerformanceBudget.Violation>> budgetViolations = new ConcurrentHashMap<>();
+    private static final Map<String, List<Double>> stepDurations = new ConcurrentHashMap<>();
+    private static final PerformanceBaseline baseline = new PerformanceBaseline();
+    private static final List<String> BASELINE_PAGE_METRICS = List.of(PagePerformance.TTFB,
+            PagePerformance.DOM_CONTENT_LOADED, PagePerformance.LOAD, PagePerformance.FCP, PagePerformance.LCP,
+            PagePerformance.CLS);
+    private static List<PerformanceBaseline.Regression> regressions = new ArrayList<>();
+    private static FlakinessStore.Index flakiness;
+    private static long runId = System.currentTimeMillis();
     private static LocalDateTime testExecutionStart;
     private static LocalDateTime testExecutionEnd;
 
@@ -42,6 +63,7 @@ public final class ReportingUtil {
         try {
             Files.createDirectories(Paths.get(REPORTS_DIR));
             testExecutionStart = LocalDateTime.now();
+            runId = System.currentTimeMillis();
             logger.info("✓ Reporting system initialized - Reports dir: {}", REPORTS_DIR);
         } catch (final IOException e) {
             logger.error("Failed to initialize reporting system", e);
@@ -61,11 +83,74 @@ public final class ReportingUtil {
             final String status,
             final long duration,
             final String message) {
-        final TestResult result = new TestResult(testName, status, duration, message);
+        recordTestResult(testName, testName, status, duration, message);
+    }
+
+    /**
+     * Record a test result under a stable test id (e.g. feature path and line).
+     * The id is used as the key for the persisted duration history.
+     *
+     * @param testId   the stable test id
+     * @param testName the test name
+     * @param status   the test status (PASSED, FAILED, SKIPPED)
+     * @param duration the test duration in milliseconds
+     * @param message  additional message/details
+     */
+    public static void recordTestResult(
+            final String testId,
+            final String testName,
+            final String status,
+            final long duration,
+            final String message) {
+        final TestResult result = new TestResult(testId, testName, status, duration, message);
         testResults.add(result);
         logger.info("Recorded test result: {} - {}", testName, status);
     }
 
+    /**
+     * Record the result of rerunning a failed test. It replaces the failed
+     * result, keeping the number of attempts; a test that passes on a rerun
+     * is marked flaky.
+     *
+     * @param testId   the stable test id
+     * @param testName the test name
+     * @param status   the status of the rerun
+     * @param duration the duration of the rerun in milliseconds
+     * @param message  additional message/details of the rerun
+     */
+    public static void recordRerunResult(
+            final String testId,
+            final String testName,
+            final String status,
+            final long duration,
+            final String message) {
+        int index = -1;
+        for (int i = testResults.size() - 1; i >= 0; i--) {
+            if (testResults.get(i).testId.equals(testId)) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            recordTestResult(testId, testName, status, duration, message);
+            return;
+        }
+
+        final TestResult previous = testResults.get(index);
+        final boolean flaky = "PASSED".equals(status);
+        final String firstFailure = previous.firstFailure != null ? previous.firstFailure : previous.message;
+        final TestResult result = new TestResult(testId, testName, status, duration,
+                flaky ? "Flaky - passed on attempt " + (previous.attempts + 1) + ", first failure: " + firstFailure
+                        : message);
+        result.attempts = previous.attempts + 1;
+        result.lostMs = previous.lostMs + previous.duration;
+        result.flaky = flaky;
+        result.firstFailure = firstFailure;
+        testResults.set(index, result);
+        logger.info("Recorded rerun result: {} - {} (attempt {}){}", testName, status, result.attempts,
+                flaky ? " - flaky" : "");
+    }
+
     /**
      * Record test result with error.
      *
@@ -82,6 +167,114 @@ public final class ReportingUtil {
         recordTestResult(testName, status, duration, "Error: " + error);
     }
 
+    /**
+     * Record the instrumentation spans of a test and add them to the
+     * aggregated hot-path statistics.
+     *
+     * @param testId the stable test id
+     * @param spans  the completed spans
+     */
+    public static void recordSpans(final String testId, final List<Instrumentation.SpanRecord> spans) {
+        if (spans.isEmpty()) {
+            return;
+        }
+        scenarioSpans.put(testId, spans);
+        for (final Instrumentation.SpanRecord span : spans) {
+            spanStats.computeIfAbsent(span.getName(), SpanStats::new).add(span.getDurationMs());
+        }
+    }
+
+    /**
+     * Record the page performance snapshots captured during a test.
+     *
+     * @param testId    the stable test id
+     * @param snapshots the snapshots, in capture order
+     */
+    public static void recordPagePerformance(final String testId, final List<PagePerformance.Snapshot> snapshots) {
+        if (!snapshots.isEmpty()) {
+            pagePerformance.put(testId, snapshots);
+        }
+    }
+
+    /**
+     * Record the performance budget violations of a test.
+     *
+     * @param testId     the stable test id
+     * @param violations the violations
+     */
+    public static void recordBudgetViolations(final String testId, final List<PerformanceBudget.Violation> violations) {
+        if (!violations.isEmpty()) {
+            budgetViolations.put(testId, violations);
+        }
+    }
+
+    /**
+     * Record the durations of the passed steps of a test, by step pattern.
+     *
+     * @param durations step pattern to time spent in the step, in ms
+     */
+    public static void recordStepDurations(final Map<String, Long> durations) {
+        durations.forEach((pattern, ms) -> stepDurations
+                .computeIfAbsent(pattern, k -> new CopyOnWriteArrayList<>())
+                .add(ms.doubleValue()));
+    }
+
+    /**
+     * Compare this run's scenario, step and page timings with the baseline of
+     * previous runs. Call before generating the reports.
+     *
+     * @return the regressions found
+     */
+    public static List<PerformanceBaseline.Regression> compareWithBaseline() {
+        regressions = baseline.compare(currentPerformanceSamples());
+        regressions.forEach(regression -> logger.warn("Performance regression: {}", regression));
+        return regressions;
+    }
+
+    /**
+     * Add this run's timings to the baseline. Call after generating the reports.
+     */
+    public static void persistBaseline() {
+        baseline.append(currentPerformanceSamples());
+    }
+
+    /**
+     * Timings of the current run keyed as in {@link PerformanceBaseline}.
+     *
+     * @return samples by key
+     */
+    private static Map<String, List<Double>> currentPerformanceSamples() {
+        final Map<String, List<Double>> samples = new TreeMap<>();
+        for (final TestResult result : testResults) {
+            if ("PASSED".equals(result.status)) {
+                samples.computeIfAbsent("scenario:" + result.testId, k -> new ArrayList<>())
+                        .add((double) result.duration);
+            }
+        }
+        stepDurations.forEach((pattern, values) -> samples.put("step:" + pattern, new ArrayList<>(values)));
+        pagePerformance.values().forEach(snapshots -> snapshots.forEach(snapshot -> {
+            for (final String metric : BASELINE_PAGE_METRICS) {
+                final Double value = snapshot.get(metric);
+                if (value != null) {
+                    samples.computeIfAbsent("page:" + snapshot.getPage() + ":" + metric, k -> new ArrayList<>())
+                            .add(value);
+                }
+            }
+        }));
+        return samples;
+    }
+
+    /**
+     * Aggregated span statistics, slowest total first.
+     *
+     * @return span statistics by name
+     */
+    private static List<SpanStats> hotPaths() {
+        final List<SpanStats> stats = new ArrayList<>(spanStats.values());
+        stats.sort((a, b) -> Double.compare(b.totalMs, a.totalMs));
+        return stats;
+    }
+
     /**
      * Generate JSON report of all test results.
      *
@@ -90,6 +283,11 @@ public final class ReportingUtil {
     public static String generateJsonReport() {
         testExecutionEnd = LocalDateTime.now();
         final ExecutionSummary summary = new ExecutionSummary(testResults, testExecutionStart, testExecutionEnd);
+        summary.spans = scenarioSpans.isEmpty() ? null : new HashMap<>(scenarioSpans);
+        summary.hotPaths = spanStats.isEmpty() ? null : hotPaths();
+        summary.performance = pagePerformance.isEmpty() ? null : new HashMap<>(pagePerformance);
+        summary.budgetViolations = budgetViolations.isEmpty() ? null : new HashMap<>(budgetViolations);
+        summary.regressions = regressions.isEmpty() ? null : regressions;
 
         try {
             final String fileName = String.format("%s/test-results-%s.json", REPORTS_DIR,
@@ -132,11 +330,12 @@ public final class ReportingUtil {
      *
      * @return HTML content as string
      */
-    private static String generateHtmlContent() {
+    static String generateHtmlContent() {
         final long totalTests = testResults.size();
         final long passedTests = testResults.stream().filter(r -> "PASSED".equals(r.status)).count();
         final long failedTests = testResults.stream().filter(r -> "FAILED".equals(r.status)).count();
         final long skippedTests = testResults.stream().filter(r -> "SKIPPED".equals(r.status)).count();
+        final long flakyTests = getFlakyTests();
         final long totalDuration = testResults.stream().mapToLong(r -> r.duration).sum();
         final double passRate = totalTests > 0 ? (passedTests * 100.0) / totalTests : 0;
 
@@ -168,6 +367,7 @@ public final class ReportingUtil {
         html.append("        .PASSED { color: #28a745; font-weight: bold; }\n");
         html.append("        .FAILED { color: #dc3545; font-weight: bold; }\n");
         html.append("        .SKIPPED { color: #ffc107; font-weight: bold; }\n");
+        html.append("        .flaky { color: #fd7e14; font-weight: bold; }\n");
         html.append("        .footer { margin-top: 30px; text-align: center; color: #666; font-size: 12px; }\n");
         html.append("    </style>\n");
         html.append("</head>\n");
@@ -191,6 +391,11 @@ public final class ReportingUtil {
         html.append(String.format(
                 "        <p><strong>Pass Rate:</strong> %.1f%% | <strong>Total Duration:</strong> %dms | <strong>Execution Time:</strong> %s to %s</p>\n",
                 passRate, totalDuration, testExecutionStart, testExecutionEnd));
+        if (flakyTests > 0) {
+            html.append(String.format(
+                    "        <p class=\"flaky\">%d flaky test(s) failed first and passed on a rerun</p>\n",
+                    flakyTests));
+        }
         html.append("        <table>\n");
         html.append("            <thead>\n");
         html.append("                <tr>\n");
@@ -205,7 +410,8 @@ public final class ReportingUtil {
         for (final TestResult result : testResults) {
             html.append("                <tr>\n");
             html.append(String.format("                    <td>%s</td>\n", result.testName));
-            html.append(String.format("                    <td class=\"%s\">%s</td>\n", result.status, result.status));
+            html.append(String.format("                    <td class=\"%s\">%s%s</td>\n", result.status, result.status,
+                    result.flaky ? " <span class=\"flaky\">(flaky)</span>" : ""));
             html.append(String.format("                    <td>%d</td>\n", result.duration));
             html.append(
                     String.format("                    <td>%s</td>\n", result.message != null ? result.message : "-"));
@@ -214,6 +420,11 @@ public final class ReportingUtil {
 
         html.append("            </tbody>\n");
         html.append("        </table>\n");
+        appendRegressions(html);
+        appendPagePerformance(html);
+        appendBudgetViolations(html);
+        appendFlakiness(html);
+        appendHotPaths(html);
         html.append("        <div class=\"footer\">\n");
         html.append(String.format("            <p>Report generated on %s | demoPlaywright Test Framework</p>\n",
                 LocalDateTime.now().format(TIMESTAMP_FORMATTER)));
@@ -225,6 +436,303 @@ public final class ReportingUtil {
         return html.toString();
     }
 
+    /**
+     * Append the durations of this run to the duration history.
+     * Skipped tests are left out so they do not drag estimates down.
+     */
+    public static void persistDurations() {
+        final List<DurationStore.Sample> samples = new ArrayList<>();
+        for (final TestResult result : testResults) {
+            if (!"SKIPPED".equals(result.status)) {
+                samples.add(new DurationStore.Sample(result.testId, result.duration, result.status,
+                        result.recordedAt));
+            }
+        }
+        durationStore.append(samples);
+        logger.info("✓ Duration history updated with {} results", samples.size());
+    }
+
+    /**
+     * Append this run's outcomes to the flakiness history and update its
+     * index. Call before generating the reports so they include the
+     * flakiness statistics.
+     */
+    public static void persistOutcomes() {
+        final List<FlakinessStore.Outcome> outcomes = new ArrayList<>();
+        for (final TestResult result : testResults) {
+            final String failure = result.flaky ? result.firstFailure
+                    : "FAILED".equals(result.status) ? result.message : null;
+            outcomes.add(new FlakinessStore.Outcome(runId, result.testId, result.testName, result.status,
+                    result.flaky, result.lostMs, failure));
+        }
+        flakiness = flakinessStore.append(outcomes);
+        logger.info("✓ Flakiness history updated with {} outcomes ({} runs)", outcomes.size(), flakiness.getRuns());
+    }
+
+    /**
+     * Write the flakiness feed: the flakiest tests and the largest failure
+     * clusters over the run history, as JSON.
+     *
+     * @return path to the feed, or null if there is no history
+     */
+    public static String generateFlakinessFeed() {
+        final FlakinessStore.Index index = flakiness != null ? flakiness : flakinessStore.index();
+        final Map<String, Object> feed = new LinkedHashMap<>();
+        feed.put("runs", index.getRuns());
+        feed.put("generated", LocalDateTime.now().format(TIMESTAMP_FORMATTER));
+        feed.put("flakyTests", index.flakiest(FLAKINESS_REPORT_LIMIT));
+        feed.put("failureClusters", index.clusters(FLAKINESS_REPORT_LIMIT));
+
+        final String fileName = REPORTS_DIR + "/flakiness.json";
+        try (final FileWriter writer = new FileWriter(fileName)) {
+            gson.toJson(feed, writer);
+            logger.info("✓ Flakiness feed generated: {}", fileName);
+            return fileName;
+        } catch (final IOException e) {
+            logger.error("Failed to generate flakiness feed", e);
+            return null;
+        }
+    }
+
+    /**
+     * Load expected test durations from previous runs.
+     *
+     * @return map of test id to expected duration in milliseconds (empty if no history)
+     */
+    public static Map<String, Long> loadDurations() {
+        return durationStore.estimates();
+    }
+
+    /**
+     * Tests whose most recent recorded execution failed.
+     *
+     * @return ids of previously failing tests
+     */
+    public static Set<String> loadFailedTests() {
+        final Set<String> failed = new HashSet<>();
+        durationStore.lastStatuses().forEach((id, status) -> {
+            if ("FAILED".equals(status)) {
+                failed.add(id);
+            }
+        });
+        return failed;
+    }
+
+    /**
+     * Get the history directory. Lives outside target/ so it survives
+     * {@code mvn clean} and can be cached between CI runs.
+     *
+     * @return path to history directory
+     */
+    public static String getHistoryDir() {
+        return ConfigReader.get("history.dir", "test-history");
+    }
+
+    /**
+     * Append the aggregated per-step/per-span timing table, if instrumentation
+     * recorded anything.
+     *
+     * @param html the report being built
+     */
+    private static void appendHotPaths(final StringBuilder html) {
+        if (spanStats.isEmpty()) {
+            return;
+        }
+        html.append("        <h2>Hot Paths</h2>\n");
+        html.append("        <table>\n");
+        html.append("            <thead>\n");
+        html.append("                <tr>\n");
+        html.append("                    <th>Span</th>\n");
+        html.append("                    <th>Count</th>\n");
+        html.append("                    <th>Total (ms)</th>\n");
+        html.append("                    <th>Mean (ms)</th>\n");
+        html.append("                    <th>Max (ms)</th>\n");
+        html.append("                </tr>\n");
+        html.append("            </thead>\n");
+        html.append("            <tbody>\n");
+        for (final SpanStats stats : hotPaths()) {
+            html.append(String.format(
+                    "                <tr><td>%s</td><td>%d</td><td>%.1f</td><td>%.1f</td><td>%.1f</td></tr>%n",
+                    escapeHtml(stats.name), stats.count, stats.totalMs, stats.totalMs / stats.count, stats.maxMs));
+        }
+        html.append("            </tbody>\n");
+        html.append("        </table>\n");
+    }
+
+    /**
+     * Append the performance regressions table, if the run is slower than
+     * its baseline anywhere.
+     *
+     * @param html the report being built
+     */
+    private static void appendRegressions(final StringBuilder html) {
+        if (regressions.isEmpty()) {
+            return;
+        }
+        html.append("        <h2>Performance Regressions</h2>\n");
+        html.append("        <table>\n");
+        html.append("            <thead>\n");
+        html.append("                <tr>\n");
+        html.append("                    <th>Metric</th>\n");
+        html.append("                    <th>Baseline Median</th>\n");
+        html.append("                    <th>Baseline p95</th>\n");
+        html.append("                    <th>This Run</th>\n");
+        html.append("                    <th>Change</th>\n");
+        html.append("                </tr>\n");
+        html.append("            </thead>\n");
+        html.append("            <tbody>\n");
+        for (final PerformanceBaseline.Regression regression : regressions) {
+            html.append(String.format(
+                    "                <tr><td>%s</td><td>%.1f</td><td>%.1f</td><td>%.1f</td>"
+                            + "<td class=\"FAILED\">%+.0f%%</td></tr>%n",
+                    escapeHtml(regression.getKey()), regression.getBaselineMedian(), regression.getBaselineP95(),
+                    regression.getCurrent(), regression.getChangePct()));
+        }
+        html.append("            </tbody>\n");
+        html.append("        </table>\n");
+    }
+
+    /**
+     * Append the page performance table, if any page captured metrics.
+     *
+     * @param html the report being built
+     */
+    private static void appendPagePerformance(final StringBuilder html) {
+        if (pagePerformance.isEmpty()) {
+            return;
+        }
+        html.append("        <h2>Page Performance</h2>\n");
+        html.append("        <table>\n");
+        html.append("            <thead>\n");
+        html.append("                <tr>\n");
+        html.append("                    <th>Test</th>\n");
+        html.append("                    <th>Page</th>\n");
+        html.append("                    <th>TTFB (ms)</th>\n");
+        html.append("                    <th>Load (ms)</th>\n");
+        html.append("                    <th>FCP (ms)</th>\n");
+        html.append("                    <th>LCP (ms)</th>\n");
+        html.append("                    <th>CLS</th>\n");
+        html.append("                    <th>Requests</th>\n");
+        html.append("                    <th>Transferred (KB)</th>\n");
+        html.append("                </tr>\n");
+        html.append("            </thead>\n");
+        html.append("            <tbody>\n");
+        new TreeMap<>(pagePerformance).forEach((testId, snapshots) -> {
+            for (final PagePerformance.Snapshot snapshot : snapshots) {
+                final Double transferBytes = snapshot.get(PagePerformance.TRANSFER_BYTES);
+                html.append(String.format(
+                        "                <tr><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td>"
+                                + "<td>%s</td><td>%s</td><td>%s</td></tr>%n",
+                        escapeHtml(testId), escapeHtml(snapshot.getPage()),
+                        formatMetric(snapshot.get(PagePerformance.TTFB), "%.0f"),
+                        formatMetric(snapshot.get(PagePerformance.LOAD), "%.0f"),
+                        formatMetric(snapshot.get(PagePerformance.FCP), "%.0f"),
+                        formatMetric(snapshot.get(PagePerformance.LCP), "%.0f"),
+                        formatMetric(snapshot.get(PagePerformance.CLS), "%.3f"),
+                        formatMetric(snapshot.get(PagePerformance.REQUESTS), "%.0f"),
+                        formatMetric(transferBytes != null ? transferBytes / 1024 : null, "%.1f")));
+            }
+        });
+        html.append("            </tbody>\n");
+        html.append("        </table>\n");
+    }
+
+    /**
+     * Append the performance budget violations table, if any.
+     *
+     * @param html the report being built
+     */
+    private static void appendBudgetViolations(final StringBuilder html) {
+        if (budgetViolations.isEmpty()) {
+            return;
+        }
+        html.append("        <h2>Performance Budget Violations</h2>\n");
+        html.append("        <table>\n");
+        html.append("            <thead>\n");
+        html.append("                <tr>\n");
+        html.append("                    <th>Test</th>\n");
+        html.append("                    <th>Page</th>\n");
+        html.append("                    <th>Metric</th>\n");
+        html.append("                    <th>Budget</th>\n");
+        html.append("                    <th>Actual</th>\n");
+        html.append("                </tr>\n");
+        html.append("            </thead>\n");
+        html.append("            <tbody>\n");
+        new TreeMap<>(budgetViolations).forEach((testId, violations) -> {
+            for (final PerformanceBudget.Violation violation : violations) {
+                html.append(String.format(
+                        "                <tr><td>%s</td><td>%s</td><td>%s</td><td>%.1f</td>"
+                                + "<td class=\"FAILED\">%.1f</td></tr>%n",
+                        escapeHtml(testId), escapeHtml(violation.getPage()), escapeHtml(violation.getMetric()),
+                        violation.getBudget(), violation.getActual()));
+            }
+        });
+        html.append("            </tbody>\n");
+        html.append("        </table>\n");
+    }
+
+    private static String formatMetric(final Double value, final String format) {
+        return value != null ? String.format(format, value) : "-";
+    }
+
+    /**
+     * Append the flakiest tests and largest failure clusters of the run
+     * history, once {@link #persistOutcomes()} has updated it.
+     *
+     * @param html the report being built
+     */
+    private static void appendFlakiness(final StringBuilder html) {
+        if (flakiness == null) {
+            return;
+        }
+        final List<FlakinessStore.FlakyTest> flaky = flakiness.flakiest(FLAKINESS_REPORT_LIMIT);
+        final List<FlakinessStore.FailureCluster> clusters = flakiness.clusters(FLAKINESS_REPORT_LIMIT);
+        if (flaky.isEmpty() && clusters.isEmpty()) {
+            return;
+        }
+
+        html.append(String.format("        <h2>Flakiness (%d runs recorded)</h2>%n", flakiness.getRuns()));
+        if (!flaky.isEmpty()) {
+            html.append("        <table>\n");
+            html.append("            <thead>\n");
+            html.append("                <tr><th>Test</th><th>Flake Rate (recent)</th><th>Flip Rate</th>"
+                    + "<th>Flakes / Runs</th><th>Mean Time Lost (ms)</th><th>Recent</th><th>Last Failure</th></tr>\n");
+            html.append("            </thead>\n");
+            html.append("            <tbody>\n");
+            for (final FlakinessStore.FlakyTest test : flaky) {
+                html.append(String.format(
+                        "                <tr><td>%s</td><td class=\"flaky\">%.1f%% (%.1f%%)</td><td>%.1f%%</td>"
+                                + "<td>%d / %d</td><td>%.0f</td><td><code>%s</code></td><td>%s</td></tr>%n",
+                        escapeHtml(test.getName() != null ? test.getName() : test.getId()),
+                        test.getFlakeRate() * 100, test.getRecentFlakeRate() * 100, test.getFlipRate() * 100,
+                        test.getFlakes(), test.getRuns(),
+                        test.getMeanLostMs(), escapeHtml(test.getRecent()),
+                        test.getLastFailure() != null ? escapeHtml(test.getLastFailure()) : "-"));
+            }
+            html.append("            </tbody>\n");
+            html.append("        </table>\n");
+        }
+        if (!clusters.isEmpty()) {
+            html.append("        <h3>Failure Clusters</h3>\n");
+            html.append("        <table>\n");
+            html.append("            <thead>\n");
+            html.append("                <tr><th>Failures</th><th>Signature</th><th>Tests</th></tr>\n");
+            html.append("            </thead>\n");
+            html.append("            <tbody>\n");
+            for (final FlakinessStore.FailureCluster cluster : clusters) {
+                html.append(String.format("                <tr><td>%d</td><td>%s</td><td>%s</td></tr>%n",
+                        cluster.getCount(), escapeHtml(cluster.getSignature()),
+                        escapeHtml(String.join(", ", cluster.getTests()))));
+            }
+            html.append("            </tbody>\n");
+            html.append("        </table>\n");
+        }
+    }
+
+    private static String escapeHtml(final String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
     /**
      * Get the reports directory.
      *
@@ -261,11 +769,26 @@ public final class ReportingUtil {
         return testResults.stream().filter(r -> "FAILED".equals(r.status)).count();
     }
 
+    /**
+     * Get the number of tests that failed and then passed on a rerun.
+     *
+     * @return number of flaky tests
+     */
+    public static long getFlakyTests() {
+        return testResults.stream().filter(r -> r.flaky).count();
+    }
+
     /**
      * Clear all recorded results.
      */
     public static void clearResults() {
         testResults.clear();
+        scenarioSpans.clear();
+        spanStats.clear();
+        pagePerformance.clear();
+        budgetViolations.clear();
+        stepDurations.clear();
+        regressions = new ArrayList<>();
         logger.info("Cleared all test results");
     }
 
@@ -275,18 +798,51 @@ public final class ReportingUtil {
      * Test result data class.
      */
     private static class TestResult {
+        final String testId;
         final String testName;
         final String status;
         final long duration;
         final String message;
         final String timestamp;
+        final transient long recordedAt;
+        int attempts = 1;
+        long lostMs;
+        boolean flaky;
+        String firstFailure;
 
-        TestResult(final String testName, final String status, final long duration, final String message) {
+        TestResult(
+                final String testId,
+                final String testName,
+                final String status,
+                final long duration,
+                final String message) {
+            this.testId = testId;
             this.testName = testName;
             this.status = status;
             this.duration = duration;
             this.message = message;
             this.timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
+            this.recordedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Aggregated timing of one span name (step definition, wait, scan, ...).
+     */
+    private static class SpanStats {
+        final String name;
+        long count;
+        double totalMs;
+        double maxMs;
+
+        SpanStats(final String name) {
+            this.name = name;
+        }
+
+        synchronized void add(final double durationMs) {
+            count++;
+            totalMs += durationMs;
+            maxMs = Math.max(maxMs, durationMs);
         }
     }
 
@@ -302,7 +858,13 @@ public final class ReportingUtil {
         final long passedTests;
         final long failedTests;
         final long skippedTests;
+        final long flakyTests;
         final double passRate;
+        Map<String, List<Instrumentation.SpanRecord>> spans;
+        List<SpanStats> hotPaths;
+        Map<String, List<PagePerformance.Snapshot>> performance;
+        Map<String, List<PerformanceBudget.Violation>> budgetViolations;
+        List<PerformanceBaseline.Regression> regressions;
 
         ExecutionSummary(final List<TestResult> results, final LocalDateTime startTime, final LocalDateTime endTime) {
             this.results = results;
@@ -313,6 +875,7 @@ public final class ReportingUtil {
             this.passedTests = results.stream().filter(r -> "PASSED".equals(r.status)).count();
             this.failedTests = results.stream().filter(r -> "FAILED".equals(r.status)).count();
             this.skippedTests = results.stream().filter(r -> "SKIPPED".equals(r.status)).count();
+            this.flakyTests = results.stream().filter(r -> r.flaky).count();
             this.passRate = this.totalTests > 0 ? (this.passedTests * 100.0) / this.totalTests : 0;
         }
     }
@@ -0,0 +1,187 @@
+package utils;
+
+import com.google.gson.Gson;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Blocks requests that are irrelevant to most assertions (fonts, analytics,
+ * images, ...) at the BrowserContext level, so navigation is faster and does
+ * not wait on third parties.
+ * The profile is read from {@code blocking.profile} (default
+ * blocking-profile.json) on the classpath:
+ *
+ * <pre>
+ * {
+ *   "resourceTypes": ["font", "media"],
+ *   "urlPatterns": ["google-analytics\\.com", "\\.(png|jpe?g|gif)(\\?|$)"],
+ *   "allowPatterns": ["/login\\.html"]
+ * }
+ * </pre>
+ *
+ * <p>
+ * URL patterns are regular expressions searched in the full URL; allow
+ * patterns win over both lists. Page-level routes (see {@link MockHelper})
+ * take precedence over the context route.
+ *
+ * <p>
+ * Blocking is off unless {@code blocking.enabled} is set. The route receives
+ * every request of the context (one driver round trip each), and Playwright
+ * disables the HTTP cache of a context once it has routes, so cached and
+ * revalidated responses ({@link StaticServer}'s ETag and Cache-Control) are
+ * fetched again.
+ *
+ * <p>
+ * Blocked requests are counted per resource type. Bytes saved are estimated
+ * from the response sizes seen for the same URLs in contexts that were not
+ * blocked (see {@link #observe(BrowserContext)}), so the figure is a lower
+ * bound.
+ */
+public final class ResourceBlocker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceBlocker.class);
+    private static final MetricsRegistry.Counter BYTES_SAVED = MetricsRegistry.counter(
+            "blocked_request_bytes_saved", "Estimated response bytes not downloaded because of request blocking");
+    private static final Map<String, Long> KNOWN_SIZES = new ConcurrentHashMap<>();
+
+    private static Profile profile;
+
+    private ResourceBlocker() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Check whether request blocking is enabled.
+     *
+     * @return true if {@code blocking.enabled} is set
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("blocking.enabled", false);
+    }
+
+    /**
+     * Route the requests of a context through the blocking profile.
+     *
+     * @param context the browser context, before any page navigates
+     */
+    public static void apply(final BrowserContext context) {
+        final Profile active = loadProfile();
+        if (active.isEmpty()) {
+            return;
+        }
+        context.route("**/*", route -> handle(route, active));
+        logger.debug("✓ Request blocking applied: {} resource types, {} URL patterns",
+                active.resourceTypes.size(), active.urlPatterns.size());
+    }
+
+    /**
+     * Record the response sizes of requests the profile would block, for the
+     * bytes-saved estimate. Used for contexts that opted out of blocking.
+     *
+     * @param context the browser context
+     */
+    public static void observe(final BrowserContext context) {
+        final Profile active = loadProfile();
+        if (active.isEmpty()) {
+            return;
+        }
+        context.onRequestFinished(request -> {
+            if (active.blocks(request)) {
+                KNOWN_SIZES.put(request.url(), (long) Math.max(0, request.sizes().responseBodySize));
+            }
+        });
+    }
+
+    private static void handle(final Route route, final Profile active) {
+        final Request request = route.request();
+        if (!active.blocks(request)) {
+            route.resume();
+            return;
+        }
+        route.abort("blockedbyclient");
+        MetricsRegistry.counter("blocked_requests", "Requests aborted by the blocking profile",
+                "type", request.resourceType()).inc();
+        BYTES_SAVED.inc(KNOWN_SIZES.getOrDefault(request.url(), 0L));
+        logger.trace("Blocked {} {}", request.resourceType(), request.url());
+    }
+
+    private static synchronized Profile loadProfile() {
+        if (profile != null) {
+            return profile;
+        }
+        final String fileName = ConfigReader.get("blocking.profile", "blocking-profile.json");
+        try (InputStream inputStream = ResourceBlocker.class.getClassLoader().getResourceAsStream(fileName)) {
+            if (inputStream == null) {
+                logger.warn("{} not found in classpath - no requests are blocked", fileName);
+                profile = new Profile();
+                return profile;
+            }
+            final Profile loaded = new Gson().fromJson(
+                    new String(inputStream.readAllBytes(), StandardCharsets.UTF_8), Profile.class);
+            profile = loaded != null ? loaded.compile() : new Profile();
+            logger.info("✓ Loaded blocking profile {}: types {}, {} URL patterns",
+                    fileName, profile.resourceTypes, profile.urlPatterns.size());
+        } catch (final IOException | RuntimeException e) {
+            logger.error("Failed to load blocking profile {}", fileName, e);
+            profile = new Profile();
+        }
+        return profile;
+    }
+
+    /**
+     * Resource types and URL patterns to block.
+     */
+    private static final class Profile {
+        Set<String> resourceTypes = new HashSet<>();
+        List<String> urlPatterns = new ArrayList<>();
+        List<String> allowPatterns = new ArrayList<>();
+        private transient List<Pattern> blocked = new ArrayList<>();
+        private transient List<Pattern> allowed = new ArrayList<>();
+
+        Profile compile() {
+            resourceTypes = resourceTypes != null ? resourceTypes : new HashSet<>();
+            urlPatterns = urlPatterns != null ? urlPatterns : new ArrayList<>();
+            allowPatterns = allowPatterns != null ? allowPatterns : new ArrayList<>();
+            blocked = new ArrayList<>();
+            allowed = new ArrayList<>();
+            urlPatterns.forEach(pattern -> blocked.add(Pattern.compile(pattern)));
+            allowPatterns.forEach(pattern -> allowed.add(Pattern.compile(pattern)));
+            return this;
+        }
+
+        boolean isEmpty() {
+            return resourceTypes.isEmpty() && blocked.isEmpty();
+        }
+
+        boolean blocks(final Request request) {
+            final String url = request.url();
+            for (final Pattern pattern : allowed) {
+                if (pattern.matcher(url).find()) {
+                    return false;
+                }
+            }
+            if (resourceTypes.contains(request.resourceType())) {
+                return true;
+            }
+            for (final Pattern pattern : blocked) {
+                if (pattern.matcher(url).find()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
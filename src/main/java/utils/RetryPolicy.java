@@ -0,0 +1,254 @@
+package utils;
+
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.TimeoutError;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Retry policy: exponential backoff with full jitter, capped by a maximum
+ * delay and a maximum elapsed time, limited to failures that are worth
+ * repeating, and drawing on a retry budget shared by the whole suite.
+ *
+ * <p>
+ * The delay before retry {@code n} is a random value between 0 and
+ * {@code min(maxDelay, initialDelay * multiplier^(n-1))}, so workers that
+ * failed together do not retry together. By default only transient failures
+ * are retried (see {@link #isTransient(Throwable)}); anything else, such as
+ * an assertion or a missing selector, fails on the first attempt. Once the
+ * suite has used {@code retry.budget} retries, later failures are no longer
+ * retried, so flaky infrastructure shows up as failures instead of a slow
+ * suite.
+ *
+ * <pre>
+ * RetryPolicy.fromConfig()
+ *         .setMaxAttempts(5)
+ *         .run(() -> page.navigate(url), "open dashboard");
+ * </pre>
+ *
+ * <p>
+ * Defaults come from {@code retry.max.attempts}, {@code retry.initial.delay.ms},
+ * {@code retry.multiplier}, {@code retry.max.delay.ms},
+ * {@code retry.max.elapsed.ms} and {@code retry.budget}.
+ */
+public final class RetryPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryPolicy.class);
+    private static final MetricsRegistry.Counter ATTEMPTS = MetricsRegistry.counter(
+            "retry_attempts", "Attempts made under a retry policy");
+    private static final MetricsRegistry.Counter RETRIES = MetricsRegistry.counter(
+            "playwright_retries", "Attempts repeated by CommonFunction.retry after a failure");
+    private static final MetricsRegistry.Counter RETRIES_EXHAUSTED = MetricsRegistry.counter(
+            "playwright_retries_exhausted", "CommonFunction.retry calls that failed on every attempt");
+    private static final MetricsRegistry.Histogram TIME_RETRYING = MetricsRegistry.histogram(
+            "retry_time_seconds", "Time spent in failed attempts and backoff of calls that were retried");
+    private static final MetricsRegistry.Gauge BUDGET_REMAINING = MetricsRegistry.gauge(
+            "retry_budget_remaining", "Retries left in the suite-wide retry budget");
+
+    private static final Object BUDGET_LOCK = new Object();
+    private static AtomicInteger budget;
+
+    private int maxAttempts = ConfigReader.getInt("retry.max.attempts", 3);
+    private long initialDelayMs = ConfigReader.getInt("retry.initial.delay.ms", 100);
+    private double multiplier = Double.parseDouble(ConfigReader.get("retry.multiplier", "2.0"));
+    private long maxDelayMs = ConfigReader.getInt("retry.max.delay.ms", 5000);
+    private long maxElapsedMs = ConfigReader.getInt("retry.max.elapsed.ms", 30000);
+    private Predicate<Throwable> retryOn = RetryPolicy::isTransient;
+
+    private RetryPolicy() {
+    }
+
+    /**
+     * Create a policy with the configured defaults.
+     *
+     * @return a new policy
+     */
+    public static RetryPolicy fromConfig() {
+        return new RetryPolicy();
+    }
+
+    public RetryPolicy setMaxAttempts(final int maxAttempts) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        return this;
+    }
+
+    public RetryPolicy setInitialDelayMs(final long initialDelayMs) {
+        this.initialDelayMs = initialDelayMs;
+        return this;
+    }
+
+    public RetryPolicy setMultiplier(final double multiplier) {
+        this.multiplier = multiplier;
+        return this;
+    }
+
+    public RetryPolicy setMaxDelayMs(final long maxDelayMs) {
+        this.maxDelayMs = maxDelayMs;
+        return this;
+    }
+
+    public RetryPolicy setMaxElapsedMs(final long maxElapsedMs) {
+        this.maxElapsedMs = maxElapsedMs;
+        return this;
+    }
+
+    /**
+     * Replace the retry-on predicate, e.g. {@code e -> true} to retry every
+     * failure.
+     *
+     * @param retryOn returns true for failures that should be retried
+     * @return this policy
+     */
+    public RetryPolicy setRetryOn(final Predicate<Throwable> retryOn) {
+        this.retryOn = retryOn;
+        return this;
+    }
+
+    /**
+     * Run an action under this policy.
+     *
+     * @param action      the action
+     * @param description description of the action
+     */
+    public void run(final Runnable action, final String description) {
+        call(() -> {
+            action.run();
+            return true;
+        }, description);
+    }
+
+    /**
+     * Call a supplier under this policy.
+     *
+     * @param <T>         the return type
+     * @param supplier    the supplier
+     * @param description description of the action
+     * @return the result of the first successful attempt
+     * @throws RuntimeException the original failure if it is not retryable,
+     *                          otherwise a RuntimeException caused by the
+     *                          last failure once attempts, elapsed time or
+     *                          budget run out
+     */
+    public <T> T call(final Supplier<T> supplier, final String description) {
+        final long start = System.currentTimeMillis();
+        RuntimeException lastException = null;
+        int attempt = 0;
+
+        while (true) {
+            attempt++;
+            ATTEMPTS.inc();
+            try {
+                final T result = supplier.get();
+                if (attempt > 1) {
+                    TIME_RETRYING.observeMillis(System.currentTimeMillis() - start);
+                    logger.info("✓ Retry successful for: {} (attempt {})", description, attempt);
+                }
+                return result;
+            } catch (final RuntimeException e) {
+                lastException = e;
+            }
+
+            if (!retryOn.test(lastException)) {
+                logger.debug("Not retrying {} - {} is not retryable", description, summary(lastException));
+                throw lastException;
+            }
+
+            final long delayMs = delayMs(attempt);
+            final String stopReason = stopReason(attempt, start, delayMs);
+            if (stopReason != null) {
+                if (attempt > 1) {
+                    TIME_RETRYING.observeMillis(System.currentTimeMillis() - start);
+                }
+                RETRIES_EXHAUSTED.inc();
+                final String message = String.format("Failed to %s after %d attempts (%s)",
+                        description, attempt, stopReason);
+                logger.error(message, lastException);
+                throw new RuntimeException(message, lastException);
+            }
+
+            logger.warn("Attempt {}/{} failed for: {} - {}; retrying in {} ms",
+                    attempt, maxAttempts, description, summary(lastException), delayMs);
+            logger.debug("Attempt {} failure for {}", attempt, description, lastException);
+            RETRIES.inc();
+            try {
+                Thread.sleep(delayMs);
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Retry interrupted", ie);
+            }
+        }
+    }
+
+    /**
+     * Decide whether to stop after a retryable failure; takes a retry from
+     * the suite budget when not.
+     *
+     * @return why retrying stops, or null to retry
+     */
+    private String stopReason(final int attempt, final long start, final long delayMs) {
+        if (attempt >= maxAttempts) {
+            return "max attempts reached";
+        }
+        if (System.currentTimeMillis() - start + delayMs > maxElapsedMs) {
+            return "max elapsed time " + maxElapsedMs + " ms reached";
+        }
+        final AtomicInteger remaining = budget();
+        if (remaining.getAndUpdate(left -> Math.max(0, left - 1)) <= 0) {
+            return "suite retry budget exhausted";
+        }
+        BUDGET_REMAINING.set(remaining.get());
+        return null;
+    }
+
+    private long delayMs(final int attempt) {
+        final long cap = Math.min(maxDelayMs, (long) (initialDelayMs * Math.pow(multiplier, attempt - 1)));
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private static AtomicInteger budget() {
+        synchronized (BUDGET_LOCK) {
+            if (budget == null) {
+                budget = new AtomicInteger(ConfigReader.getInt("retry.budget", 50));
+                BUDGET_REMAINING.set(budget.get());
+            }
+            return budget;
+        }
+    }
+
+    /**
+     * Default retry-on predicate: Playwright timeouts, CommonFunction wait
+     * timeouts, and target-closed errors (page, context or browser closed or
+     * crashed), including when they are the cause of the failure.
+     *
+     * @param failure the failure
+     * @return true if the failure is transient
+     */
+    public static boolean isTransient(final Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutError || cause instanceof CommonFunction.TimeoutException) {
+                return true;
+            }
+            if (cause instanceof PlaywrightException && cause.getMessage() != null) {
+                final String message = cause.getMessage().toLowerCase(Locale.ROOT);
+                if (message.contains("target closed") || message.contains("has been closed")
+                        || message.contains("target crashed")) {
+                    return true;
+                }
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private static String summary(final Throwable failure) {
+        final String message = failure.getMessage() != null ? failure.getMessage().split("\n", 2)[0] : "";
+        return failure.getClass().getSimpleName() + (message.isEmpty() ? "" : ": " + message);
+    }
+}
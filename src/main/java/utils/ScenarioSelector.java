@@ -0,0 +1,241 @@
+package utils;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Selects the scenarios impacted by a change set for quick feedback runs.
+ * A scenario is impacted when its feature file changed, when it carries a tag
+ * mapped from a changed file in impact-map.json (page objects, step classes,
+ * test pages), or when it failed on its last recorded run.
+ *
+ * <p>
+ * Modes ({@code selection.mode}): {@code off} runs everything in the usual
+ * order, {@code prioritize} runs impacted scenarios first, {@code only} runs
+ * nothing else.
+ */
+public final class ScenarioSelector {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioSelector.class);
+    private static final String IMPACT_MAP = "impact-map.json";
+    private static final String FEATURES_ROOT = "src/test/resources/";
+    private static final String ALL = "*";
+
+    private final Mode mode;
+    private final Set<String> changedFeatures = new HashSet<>();
+    private final Set<String> impactedTags = new HashSet<>();
+    private final Set<String> failedTests;
+    private boolean runAll;
+
+    /**
+     * Selection mode.
+     */
+    public enum Mode {
+        OFF, PRIORITIZE, ONLY
+    }
+
+    private ScenarioSelector(
+            final Mode mode,
+            final List<String> changedFiles,
+            final Map<String, List<String>> impactMap,
+            final Set<String> failedTests) {
+        this.mode = mode;
+        this.failedTests = failedTests;
+
+        for (final String file : changedFiles) {
+            if (file.startsWith(FEATURES_ROOT) && file.endsWith(".feature")) {
+                changedFeatures.add(file.substring(FEATURES_ROOT.length()));
+                continue;
+            }
+
+            // The most specific (longest) matching path prefix wins
+            String matched = null;
+            for (final String prefix : impactMap.keySet()) {
+                if (file.startsWith(prefix) && (matched == null || prefix.length() > matched.length())) {
+                    matched = prefix;
+                }
+            }
+
+            if (matched == null) {
+                // Unknown source changes could affect anything - be conservative
+                if (file.startsWith("src/")) {
+                    logger.info("Unmapped source change {} - selecting all scenarios", file);
+                    runAll = true;
+                }
+                continue;
+            }
+            for (final String tag : impactMap.get(matched)) {
+                if (ALL.equals(tag)) {
+                    runAll = true;
+                } else {
+                    impactedTags.add(normalizeTag(tag));
+                }
+            }
+        }
+    }
+
+    /**
+     * Build a selector from configuration: {@code selection.mode},
+     * {@code selection.changed.files} (comma-separated) or
+     * {@code selection.base.ref} (diffed with git), and
+     * {@code selection.include.failed}.
+     *
+     * @return the selector
+     * @throws IllegalArgumentException if {@code selection.mode} is not a {@link Mode}
+     */
+    public static ScenarioSelector fromConfig() {
+        final String configuredMode = ConfigReader.get("selection.mode", "off").trim();
+        final Mode mode;
+        try {
+            mode = Mode.valueOf(configuredMode.toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Invalid selection.mode '%s', expected one of %s",
+                    configuredMode, Arrays.toString(Mode.values()).toLowerCase(Locale.ROOT)), e);
+        }
+        if (mode == Mode.OFF) {
+            return new ScenarioSelector(mode, Collections.emptyList(), Collections.emptyMap(), Collections.emptySet());
+        }
+
+        final List<String> diff = changedFiles();
+        final List<String> changedFiles = diff != null ? diff : Collections.emptyList();
+        final Set<String> failed = ConfigReader.getBoolean("selection.include.failed", true)
+                ? ReportingUtil.loadFailedTests()
+                : Collections.emptySet();
+        final ScenarioSelector selector = new ScenarioSelector(mode, changedFiles, loadImpactMap(), failed);
+        if (diff == null) {
+            selector.runAll = true;
+        }
+
+        logger.info("✓ Scenario selection ({}): {} changed files, features {}, tags {}, {} previously failing{}",
+                mode, changedFiles.size(), selector.changedFeatures, selector.impactedTags, failed.size(),
+                selector.runAll ? ", infrastructure change - all scenarios selected" : "");
+        return selector;
+    }
+
+    /**
+     * Whether selection affects this run at all.
+     *
+     * @return true unless the mode is off
+     */
+    public boolean isActive() {
+        return mode != Mode.OFF;
+    }
+
+    /**
+     * Whether scenarios that are not selected should be excluded.
+     *
+     * @return true in {@code only} mode
+     */
+    public boolean isExclusive() {
+        return mode == Mode.ONLY;
+    }
+
+    /**
+     * Check whether a scenario is impacted by the change set.
+     *
+     * @param scenarioId the scenario id (feature path and line)
+     * @param tags       the scenario tags, with or without a leading @
+     * @return true if the scenario should run (first)
+     */
+    public boolean isSelected(final String scenarioId, final Collection<String> tags) {
+        if (runAll || failedTests.contains(scenarioId)) {
+            return true;
+        }
+        final String feature = scenarioId.substring(0, scenarioId.lastIndexOf(':'));
+        if (changedFeatures.contains(feature)) {
+            return true;
+        }
+        return tags.stream().map(ScenarioSelector::normalizeTag).anyMatch(impactedTags::contains);
+    }
+
+    private static String normalizeTag(final String tag) {
+        return tag.startsWith("@") ? tag.substring(1) : tag;
+    }
+
+    /**
+     * Changed files from configuration or git.
+     *
+     * @return the changed files, or null if they could not be determined
+     */
+    private static List<String> changedFiles() {
+        final String configured = ConfigReader.get("selection.changed.files", "");
+        if (!configured.isBlank()) {
+            return Arrays.stream(configured.split(","))
+                    .map(String::trim)
+                    .filter(file -> !file.isEmpty())
+                    .collect(Collectors.toList());
+        }
+
+        final String baseRef = ConfigReader.get("selection.base.ref", "");
+        if (baseRef.isBlank()) {
+            logger.warn("Selection enabled without selection.changed.files or selection.base.ref");
+            return Collections.emptyList();
+        }
+        return gitDiff(baseRef);
+    }
+
+    private static List<String> gitDiff(final String baseRef) {
+        final List<String> files = new ArrayList<>();
+        try {
+            final Process process = new ProcessBuilder("git", "diff", "--name-only", baseRef + "...HEAD")
+                    .redirectErrorStream(true)
+                    .start();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        files.add(line.trim());
+                    }
+                }
+            }
+            if (!process.waitFor(30, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                logger.warn("git diff against {} failed - selecting all scenarios", baseRef);
+                return null;
+            }
+        } catch (final IOException e) {
+            logger.warn("Failed to run git diff against {} - selecting all scenarios", baseRef, e);
+            return null;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        return files;
+    }
+
+    private static Map<String, List<String>> loadImpactMap() {
+        try (InputStream inputStream = ScenarioSelector.class.getClassLoader().getResourceAsStream(IMPACT_MAP)) {
+            if (inputStream == null) {
+                logger.warn("{} not found in classpath - only feature changes and failures are selected", IMPACT_MAP);
+                return Collections.emptyMap();
+            }
+            final String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            final Map<String, List<String>> map = new Gson().fromJson(content,
+                    new TypeToken<LinkedHashMap<String, List<String>>>() {
+                    }.getType());
+            return map != null ? map : Collections.emptyMap();
+        } catch (final IOException | RuntimeException e) {
+            logger.error("Failed to load {}", IMPACT_MAP, e);
+            return Collections.emptyMap();
+        }
+    }
+}
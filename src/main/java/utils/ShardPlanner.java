@@ -0,0 +1,86 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Partitions tests across CI shards using historical durations.
+ * Uses longest-processing-time-first bin packing: tests are sorted by expected
+ * duration (slowest first) and each one is placed on the currently lightest
+ * shard, which keeps shard wall times close to each other.
+ * The assignment is deterministic so every agent computes the same plan.
+ */
+public final class ShardPlanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardPlanner.class);
+
+    private ShardPlanner() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Assign each test id to a shard.
+     *
+     * @param testIds         all test ids discovered for the suite
+     * @param durations       historical durations in milliseconds by test id
+     * @param shardCount      number of shards
+     * @param defaultDuration expected duration for tests without history
+     * @return map of test id to zero-based shard index
+     */
+    public static Map<String, Integer> assign(
+            final List<String> testIds,
+            final Map<String, Long> durations,
+            final int shardCount,
+            final long defaultDuration) {
+        final Map<String, Integer> assignment = new HashMap<>();
+        if (shardCount <= 1) {
+            testIds.forEach(id -> assignment.put(id, 0));
+            return assignment;
+        }
+
+        final List<String> ordered = new ArrayList<>(testIds);
+        ordered.sort(Comparator
+                .comparingLong((String id) -> durations.getOrDefault(id, defaultDuration))
+                .reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        final long[] load = new long[shardCount];
+        for (final String id : ordered) {
+            int lightest = 0;
+            for (int shard = 1; shard < shardCount; shard++) {
+                if (load[shard] < load[lightest]) {
+                    lightest = shard;
+                }
+            }
+            load[lightest] += durations.getOrDefault(id, defaultDuration);
+            assignment.put(id, lightest);
+        }
+
+        for (int shard = 0; shard < shardCount; shard++) {
+            logger.debug("Shard {}/{} planned load: {}ms", shard, shardCount, load[shard]);
+        }
+        return assignment;
+    }
+
+    /**
+     * Expected duration for tests without history: the median of known
+     * durations, or the fallback when there is no history at all.
+     *
+     * @param durations historical durations in milliseconds
+     * @param fallback  value used when no history exists
+     * @return the default duration in milliseconds
+     */
+    public static long defaultDuration(final Map<String, Long> durations, final long fallback) {
+        if (durations.isEmpty()) {
+            return fallback;
+        }
+        final List<Long> values = new ArrayList<>(durations.values());
+        values.sort(Comparator.naturalOrder());
+        return values.get(values.size() / 2);
+    }
+}
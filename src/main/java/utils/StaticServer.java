@@ -0,0 +1,264 @@
+package utils;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Embedded HTTP server for the bundled test application.
+ * Serves {@code static.server.root} (default src/test/resources) on
+ * {@code http://localhost:<static.server.port>} so pages are loaded over HTTP
+ * on every platform instead of through a machine-specific file:// URL.
+ * One server is shared by all workers of the JVM.
+ *
+ * <p>
+ * Responses carry {@code Cache-Control}, {@code ETag} and
+ * {@code Last-Modified} headers and honour conditional requests; text
+ * content is gzip-compressed when the client accepts it. Files are read and
+ * compressed once and cached until they change on disk. Set
+ * {@code static.server.latency.ms} to delay every response and simulate a
+ * remote server.
+ */
+public final class StaticServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(StaticServer.class);
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+    private static final int GZIP_MIN_BYTES = 1024;
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "js", "text/javascript; charset=utf-8",
+            "json", "application/json; charset=utf-8",
+            "svg", "image/svg+xml",
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "ico", "image/x-icon",
+            "txt", "text/plain; charset=utf-8");
+    private static final Map<Path, CachedFile> cache = new ConcurrentHashMap<>();
+
+    private static HttpServer httpServer;
+    private static ExecutorService executor;
+    private static String baseUrl;
+
+    private StaticServer() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Check whether the embedded server should provide the base URL.
+     *
+     * @return true if {@code static.server.enabled} is set and no
+     *         {@code base.url} is configured
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("static.server.enabled", true) && ConfigReader.get("base.url") == null;
+    }
+
+    /**
+     * Start the server if it is not running yet.
+     *
+     * @return the base URL of the server, without a trailing slash
+     */
+    public static synchronized String start() {
+        if (httpServer != null) {
+            return baseUrl;
+        }
+
+        final Path root = Paths.get(ConfigReader.get("static.server.root", "src/test/resources"))
+                .toAbsolutePath().normalize();
+        final int port = ConfigReader.getInt("static.server.port", 0);
+        final long latencyMs = ConfigReader.getInt("static.server.latency.ms", 0);
+        final int maxAge = ConfigReader.getInt("static.server.cache.max.age", 3600);
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            final AtomicInteger threads = new AtomicInteger();
+            executor = Executors.newCachedThreadPool(runnable -> {
+                final Thread thread = new Thread(runnable, "static-server-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            httpServer.setExecutor(executor);
+            httpServer.createContext("/", exchange -> handle(exchange, root, latencyMs, maxAge));
+            httpServer.start();
+        } catch (final IOException e) {
+            stop();
+            final String message = "Failed to start static server on port " + port;
+            logger.error(message, e);
+            throw new RuntimeException(message, e);
+        }
+
+        baseUrl = "http://localhost:" + httpServer.getAddress().getPort();
+        logger.info("✓ Static server started: {} serving {} (latency {} ms)", baseUrl, root, latencyMs);
+        return baseUrl;
+    }
+
+    /**
+     * Stop the server and drop cached files.
+     */
+    public static synchronized void stop() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+            logger.info("✓ Static server stopped");
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        baseUrl = null;
+        cache.clear();
+    }
+
+    private static void handle(
+            final HttpExchange exchange,
+            final Path root,
+            final long latencyMs,
+            final int maxAge) throws IOException {
+        try {
+            if (latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+
+            final String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                respond(exchange, 405);
+                return;
+            }
+
+            final Path file = resolve(root, exchange.getRequestURI());
+            if (file == null || !Files.isRegularFile(file)) {
+                respond(exchange, 404);
+                return;
+            }
+
+            final CachedFile cached = load(file);
+            final Headers headers = exchange.getResponseHeaders();
+            headers.set("Content-Type", cached.contentType);
+            headers.set("Cache-Control", "max-age=" + maxAge);
+            headers.set("ETag", cached.etag);
+            headers.set("Last-Modified", cached.lastModified);
+            headers.set("Vary", "Accept-Encoding");
+
+            if (cached.etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                respond(exchange, 304);
+                return;
+            }
+
+            final String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            final boolean gzip = cached.gzipped != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+            final byte[] body = gzip ? cached.gzipped : cached.content;
+            if (gzip) {
+                headers.set("Content-Encoding", "gzip");
+            }
+
+            countRequest(200);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Map a request path onto a file below the root; directory requests get
+     * their index.html and paths escaping the root are rejected.
+     */
+    private static Path resolve(final Path root, final URI uri) {
+        String path = uri.getPath();
+        if (path == null || path.isEmpty() || path.endsWith("/")) {
+            path = (path == null ? "/" : path) + "index.html";
+        }
+        final Path file = root.resolve(path.substring(1)).normalize();
+        return file.startsWith(root) ? file : null;
+    }
+
+    private static CachedFile load(final Path file) throws IOException {
+        final long modified = Files.getLastModifiedTime(file).toMillis();
+        final CachedFile cached = cache.get(file);
+        if (cached != null && cached.modified == modified) {
+            return cached;
+        }
+        final CachedFile loaded = new CachedFile(file, Files.readAllBytes(file), modified);
+        cache.put(file, loaded);
+        return loaded;
+    }
+
+    private static void respond(final HttpExchange exchange, final int status) throws IOException {
+        countRequest(status);
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    private static void countRequest(final int status) {
+        MetricsRegistry.counter("static_server_requests", "Requests served by the static server",
+                "status", String.valueOf(status)).inc();
+    }
+
+    private static String contentType(final Path file) {
+        final String name = file.getFileName().toString();
+        final int dot = name.lastIndexOf('.');
+        final String extension = dot >= 0 ? name.substring(dot + 1).toLowerCase() : "";
+        return CONTENT_TYPES.getOrDefault(extension, "application/octet-stream");
+    }
+
+    /**
+     * File contents with precomputed headers and gzip body.
+     */
+    private static final class CachedFile {
+        final byte[] content;
+        final byte[] gzipped;
+        final long modified;
+        final String contentType;
+        final String etag;
+        final String lastModified;
+
+        CachedFile(final Path file, final byte[] content, final long modified) throws IOException {
+            this.content = content;
+            this.modified = modified;
+            this.contentType = contentType(file);
+            this.etag = String.format("\"%x-%x\"", content.length, modified);
+            this.lastModified = HTTP_DATE.format(Instant.ofEpochMilli(modified));
+            this.gzipped = isCompressible(contentType) && content.length >= GZIP_MIN_BYTES ? gzip(content) : null;
+        }
+
+        private static boolean isCompressible(final String contentType) {
+            return contentType.startsWith("text/") || contentType.startsWith("application/json")
+                    || contentType.startsWith("image/svg");
+        }
+
+        private static byte[] gzip(final byte[] content) throws IOException {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(content);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -13,6 +13,6 @@ import org.junit.platform.suite.api.Suite;
 @IncludeEngines("cucumber")
 @SelectClasspathResource("features")
 @ConfigurationParameter(key = Constants.GLUE_PROPERTY_NAME, value = "cucumber,steps")
-@ConfigurationParameter(key = Constants.PLUGIN_PROPERTY_NAME, value = "json:target/cucumber-report.json,html:target/cucumber-reports/cucumber-report.html")
+@ConfigurationParameter(key = Constants.PLUGIN_PROPERTY_NAME, value = "json:target/cucumber-report.json,html:target/cucumber-reports/cucumber-report.html,cucumber.ReportingPlugin,cucumber.InstrumentationPlugin")
 public class CucumberRunnerTest {
 }
@@ -1,38 +1,90 @@
 package cucumber;
 
-import com.microsoft.playwright.Browser;
 import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.Page;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.BeforeAll;
 import io.cucumber.java.Before;
 import io.cucumber.java.After;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import core.AuthStateCache;
 import core.BrowserManager;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.opentest4j.TestAbortedException;
 import utils.ArtifactManager;
 import utils.ConfigReader;
+import utils.Instrumentation;
+import utils.ResourceBlocker;
+import utils.StaticServer;
 
 /**
  * Cucumber hooks for browser lifecycle management.
  * Runs before and after each scenario to set up and tear down browser context.
+ * Playwright is not thread-safe, so each worker thread gets its own
+ * BrowserManager when scenarios run in parallel.
  */
 public class BrowserHooks {
 
     private static final Logger logger = LoggerFactory.getLogger(BrowserHooks.class);
-    private static BrowserManager browserManager;
+    private static final ThreadLocal<BrowserManager> BROWSER_MANAGER = new ThreadLocal<>();
+    private static final List<BrowserManager> ALL_MANAGERS = new CopyOnWriteArrayList<>();
+    private static final AtomicBoolean FAILURE_SEEN = new AtomicBoolean();
+
+    @BeforeAll
+    public static void beforeRun() {
+        // Start the shared test-app server before the first scenario so its startup is not timed
+        if (StaticServer.isEnabled()) {
+            StaticServer.start();
+        }
+    }
+
+    @AfterAll
+    public static void afterRun() {
+        // Keep browsers warm for reruns of failed scenarios; the rerun listener releases them at the end
+        if (!FailedScenarioRerun.isPending()) {
+            releaseResources();
+        }
+    }
+
+    /**
+     * Close all browsers, the login browser and the test-app server.
+     */
+    static void releaseResources() {
+        ALL_MANAGERS.forEach(BrowserManager::closeAll);
+        ALL_MANAGERS.clear();
+        AuthStateCache.shutdown();
+        StaticServer.stop();
+    }
 
     @Before
     public void beforeScenario(final io.cucumber.java.Scenario scenario) {
         logger.info("Starting scenario: {}", scenario.getName());
 
-        // Initialize BrowserManager once per feature
-        if (browserManager == null) {
+        // Fail fast: skip the rest of the run once any scenario has failed
+        if (FAILURE_SEEN.get() && ConfigReader.getBoolean("selection.fail.fast", false)
+                && !FailedScenarioRerun.isRerun()) {
+            throw new TestAbortedException("Skipped after an earlier failure (selection.fail.fast)");
+        }
+
+        // Initialize BrowserManager once per worker thread (again if a previous run closed it)
+        BrowserManager browserManager = BROWSER_MANAGER.get();
+        if (browserManager == null || !ALL_MANAGERS.contains(browserManager)) {
             browserManager = new BrowserManager();
+            BROWSER_MANAGER.set(browserManager);
+            ALL_MANAGERS.add(browserManager);
             ArtifactManager.initialize();
         }
 
-        final Browser browser = browserManager.getBrowser();
-        final BrowserContext context = browser.newContext();
-        final Page page = context.newPage();
+        final BrowserContext context;
+        final Page page;
+        try (Instrumentation.Span span = Instrumentation.span("BrowserHooks.createContext")) {
+            context = browserManager.newContext();
+            applyBlocking(context, scenario);
+            page = context.newPage();
+        }
         page.setDefaultTimeout(ConfigReader.getInt("timeout", 30000));
 
         ScenarioContext.setContext(context);
@@ -41,9 +93,27 @@ public class BrowserHooks {
         logger.debug("✓ Browser context initialized for scenario: {}", scenario.getName());
     }
 
+    /**
+     * Apply the request blocking profile unless the scenario is tagged
+     * {@code @no-blocking}; opted-out scenarios feed the bytes-saved estimate.
+     */
+    private static void applyBlocking(final BrowserContext context, final io.cucumber.java.Scenario scenario) {
+        if (!ResourceBlocker.isEnabled()) {
+            return;
+        }
+        if (scenario.getSourceTagNames().contains("@no-blocking")) {
+            ResourceBlocker.observe(context);
+        } else {
+            ResourceBlocker.apply(context);
+        }
+    }
+
     @After
     public void afterScenario(final io.cucumber.java.Scenario scenario) {
         logger.info("Finishing scenario: {} (status: {})", scenario.getName(), scenario.getStatus());
+        if (scenario.isFailed()) {
+            FAILURE_SEEN.set(true);
+        }
 
         final Page page = ScenarioContext.getPage();
         final BrowserContext context = ScenarioContext.getContext();
@@ -60,7 +130,9 @@ public class BrowserHooks {
         }
 
         if (context != null) {
-            context.close();
+            try (Instrumentation.Span span = Instrumentation.span("BrowserHooks.closeContext")) {
+                context.close();
+            }
             logger.debug("✓ Browser context closed");
         }
 
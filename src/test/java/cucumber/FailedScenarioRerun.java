@@ -0,0 +1,258 @@
+package cucumber;
+
+import io.cucumber.junit.platform.engine.Constants;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.suite.api.ConfigurationParameter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.ConfigReader;
+import utils.ReportingUtil;
+
+/**
+ * JUnit Platform listener that reruns failed Cucumber scenarios in the same
+ * JVM once the test plan has finished, up to {@code test.retry.count} times.
+ * Registered through META-INF/services.
+ *
+ * <p>
+ * Reruns select the failed scenarios by unique id and run them directly on
+ * the Cucumber engine, with the glue and plugins of the original suite
+ * except file formatters (so the first run's Cucumber reports are kept).
+ * They run sequentially, without the post-discovery filters (no sharding or
+ * reordering) and without auto-registered listeners, so a rerun cannot
+ * trigger another rerun. Browsers, the test-app server and cached logins are
+ * kept open until the last rerun has finished, and {@link ReportingPlugin}
+ * writes the reports once, with scenarios that passed on a rerun marked
+ * flaky.
+ *
+ * <p>
+ * The JUnit result of the first attempt, as seen by Surefire, is unchanged;
+ * the test reports carry the final status of each scenario. The final
+ * result is authoritative for the build: tests that still fail after the
+ * last rerun (and failed tests that are not scenarios) are listed in
+ * failed-tests.txt in the reports directory, which the build checks after
+ * Surefire; the file is absent when everything passed.
+ */
+public class FailedScenarioRerun implements TestExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailedScenarioRerun.class);
+    private static final AtomicBoolean RERUNNING = new AtomicBoolean();
+    private static volatile boolean pending;
+
+    private static final String FAILED_TESTS_FILE = "failed-tests.txt";
+
+    private final Map<UniqueId, String> failed = new ConcurrentHashMap<>();
+    private final List<String> otherFailures = new ArrayList<>();
+    private boolean active;
+
+    /**
+     * Check whether reruns may follow the current run, in which case the end
+     * of a Cucumber run must not release shared resources or write reports.
+     *
+     * @return true while a top-level test plan with reruns enabled executes
+     */
+    static boolean isPending() {
+        return pending;
+    }
+
+    /**
+     * Check whether the scenarios now running are a rerun.
+     *
+     * @return true during a rerun
+     */
+    static boolean isRerun() {
+        return RERUNNING.get();
+    }
+
+    @Override
+    public void testPlanExecutionStarted(final TestPlan testPlan) {
+        if (RERUNNING.get()) {
+            return;
+        }
+        active = ConfigReader.getInt("test.retry.count", 0) > 0;
+        pending = active;
+        failed.clear();
+        synchronized (otherFailures) {
+            otherFailures.clear();
+        }
+        writeFailedTests();
+    }
+
+    @Override
+    public void executionFinished(final TestIdentifier identifier, final TestExecutionResult result) {
+        if (result.getStatus() != TestExecutionResult.Status.FAILED) {
+            return;
+        }
+        final String scenario = identifier.isTest() ? ScenarioId.of(identifier).orElse(null) : null;
+        if (scenario != null) {
+            failed.put(identifier.getUniqueIdObject(), scenario);
+        } else {
+            synchronized (otherFailures) {
+                otherFailures.add(identifier.getUniqueId());
+            }
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(final TestPlan testPlan) {
+        if (RERUNNING.get()) {
+            return;
+        }
+        if (active) {
+            active = false;
+            try {
+                rerun(testPlan.getConfigurationParameters());
+            } finally {
+                pending = false;
+                BrowserHooks.releaseResources();
+                ReportingPlugin.finishDeferredRun();
+            }
+        }
+        writeFailedTests();
+    }
+
+    /**
+     * Write the tests that still fail, one per line, or remove the file if
+     * none do.
+     */
+    private void writeFailedTests() {
+        final Path file = Paths.get(ReportingUtil.getReportsDir(), FAILED_TESTS_FILE);
+        final List<String> lines = new ArrayList<>(failed.values());
+        synchronized (otherFailures) {
+            lines.addAll(otherFailures);
+        }
+        try {
+            if (lines.isEmpty()) {
+                Files.deleteIfExists(file);
+                return;
+            }
+            Files.createDirectories(file.getParent());
+            Files.write(file, lines, StandardCharsets.UTF_8);
+            logger.warn("{} test(s) still failing after reruns: {}", lines.size(), file);
+        } catch (final IOException e) {
+            throw new RuntimeException("Failed to write " + file, e);
+        }
+    }
+
+    private void rerun(final ConfigurationParameters parameters) {
+        final int maxReruns = ConfigReader.getInt("test.retry.count", 0);
+        final Launcher launcher = LauncherFactory.create(LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false)
+                .enablePostDiscoveryFilterAutoRegistration(false)
+                .build());
+
+        for (int round = 1; round <= maxReruns && !failed.isEmpty(); round++) {
+            final Map<UniqueId, String> toRerun = new LinkedHashMap<>(failed);
+            failed.clear();
+            logger.info("Rerunning {} failed scenario(s), attempt {}/{}: {}",
+                    toRerun.size(), round + 1, maxReruns + 1, toRerun.values());
+
+            final Map<String, String> configuration = configuration(parameters, toRerun.keySet().iterator().next());
+            final LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                    .selectors(toRerun.keySet().stream()
+                            .map(FailedScenarioRerun::cucumberEngineId)
+                            .map(DiscoverySelectors::selectUniqueId)
+                            .collect(Collectors.toList()))
+                    .configurationParameters(configuration)
+                    .build();
+
+            RERUNNING.set(true);
+            try {
+                launcher.execute(request, new TestExecutionListener() {
+                    @Override
+                    public void executionFinished(final TestIdentifier identifier, final TestExecutionResult result) {
+                        if (identifier.isTest() && result.getStatus() == TestExecutionResult.Status.FAILED) {
+                            ScenarioId.of(identifier).ifPresent(id -> failed.put(identifier.getUniqueIdObject(), id));
+                        }
+                    }
+                });
+            } finally {
+                RERUNNING.set(false);
+            }
+            logger.info("✓ Rerun {} finished: {} passed, {} still failing",
+                    round, toRerun.size() - failed.size(), failed.size());
+        }
+        if (!failed.isEmpty()) {
+            logger.warn("Failed after {} rerun(s): {}", maxReruns, failed.values());
+        }
+    }
+
+    /**
+     * Unique id of a scenario relative to the Cucumber engine, without the
+     * suite engine segments in front of it.
+     */
+    private static UniqueId cucumberEngineId(final UniqueId uniqueId) {
+        final List<UniqueId.Segment> segments = uniqueId.getSegments();
+        for (int i = 0; i < segments.size(); i++) {
+            final UniqueId.Segment segment = segments.get(i);
+            if ("engine".equals(segment.getType()) && "cucumber".equals(segment.getValue())) {
+                UniqueId id = UniqueId.forEngine("cucumber");
+                for (final UniqueId.Segment child : segments.subList(i + 1, segments.size())) {
+                    id = id.append(child);
+                }
+                return id;
+            }
+        }
+        return uniqueId;
+    }
+
+    /**
+     * Cucumber configuration of the original run: launcher-level
+     * {@code cucumber.*} parameters, overridden by the suite class's
+     * {@link ConfigurationParameter}s, without file formatters and with
+     * parallel execution off.
+     */
+    private static Map<String, String> configuration(final ConfigurationParameters parameters, final UniqueId sample) {
+        final Map<String, String> configuration = new LinkedHashMap<>();
+        parameters.keySet().stream()
+                .filter(key -> key.startsWith("cucumber."))
+                .forEach(key -> parameters.get(key).ifPresent(value -> configuration.put(key, value)));
+
+        for (final UniqueId.Segment segment : sample.getSegments()) {
+            if (!"suite".equals(segment.getType())) {
+                continue;
+            }
+            try {
+                for (final ConfigurationParameter parameter : Class.forName(segment.getValue())
+                        .getAnnotationsByType(ConfigurationParameter.class)) {
+                    configuration.put(parameter.key(), parameter.value());
+                }
+            } catch (final ClassNotFoundException e) {
+                logger.warn("Suite class {} not found - rerunning with launcher parameters only", segment.getValue());
+            }
+        }
+
+        final String plugins = configuration.get(Constants.PLUGIN_PROPERTY_NAME);
+        if (plugins != null) {
+            configuration.put(Constants.PLUGIN_PROPERTY_NAME, Arrays.stream(plugins.split(","))
+                    .map(String::trim)
+                    .filter(plugin -> !plugin.contains(":"))
+                    .collect(Collectors.joining(",")));
+        }
+        configuration.put(Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "false");
+        return configuration;
+    }
+}
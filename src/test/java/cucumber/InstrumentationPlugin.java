@@ -0,0 +1,65 @@
+package cucumber;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import utils.Instrumentation;
+import utils.ReportingUtil;
+
+/**
+ * Cucumber plugin that opens an instrumentation span around every scenario
+ * step and hook, so the spans recorded inside them (waits, scans,
+ * screenshots, context creation) nest under the step definition that caused
+ * them. Spans are handed to {@link ReportingUtil} when the scenario finishes.
+ * Concurrent listeners receive events on the thread running the scenario,
+ * which is what the thread-local span stack relies on.
+ */
+public class InstrumentationPlugin implements ConcurrentEventListener {
+
+    private static final ThreadLocal<Instrumentation.Span> STEP_SPAN = new ThreadLocal<>();
+
+    @Override
+    public void setEventPublisher(final EventPublisher publisher) {
+        if (!Instrumentation.isEnabled()) {
+            return;
+        }
+        publisher.registerHandlerFor(TestCaseStarted.class, event -> Instrumentation.beginScenario());
+        publisher.registerHandlerFor(TestStepStarted.class, this::stepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, event -> stepFinished());
+        publisher.registerHandlerFor(TestCaseFinished.class, this::scenarioFinished);
+    }
+
+    private void stepStarted(final TestStepStarted event) {
+        final TestStep step = event.getTestStep();
+        final String name;
+        if (step instanceof PickleStepTestStep) {
+            final PickleStepTestStep pickleStep = (PickleStepTestStep) step;
+            name = "step: " + pickleStep.getPattern();
+            STEP_SPAN.set(Instrumentation.span(name, pickleStep.getStep().getText()));
+        } else if (step instanceof HookTestStep) {
+            name = "hook: " + ((HookTestStep) step).getHookType() + " " + step.getCodeLocation();
+            STEP_SPAN.set(Instrumentation.span(name));
+        }
+    }
+
+    private void stepFinished() {
+        final Instrumentation.Span span = STEP_SPAN.get();
+        STEP_SPAN.remove();
+        if (span != null) {
+            span.close();
+        }
+    }
+
+    private void scenarioFinished(final TestCaseFinished event) {
+        final TestCase testCase = event.getTestCase();
+        ReportingUtil.recordSpans(ScenarioId.of(testCase.getUri(), testCase.getLocation().getLine()),
+                Instrumentation.endScenario());
+    }
+}
@@ -0,0 +1,302 @@
+package cucumber;
+
+import com.google.gson.JsonObject;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.AccessibilityReportStore;
+import utils.MetricsRegistry;
+import utils.PagePerformance;
+import utils.PerformanceBudget;
+import utils.ReportingUtil;
+
+/**
+ * Cucumber plugin that feeds scenario results into {@link ReportingUtil} as
+ * they happen, instead of parsing the Cucumber JSON report after the run.
+ * Test threads only enqueue the finished event; a single background writer
+ * records results in batches and appends them to live-results.jsonl in the
+ * reports directory, so the file can be tailed while a parallel run is in
+ * progress. Reports and the duration history are written when the run
+ * finishes, together with the metrics export; when failed scenarios may be
+ * rerun (see {@link FailedScenarioRerun}) they are written after the last
+ * rerun instead, and rerun results replace the failed ones.
+ */
+public class ReportingPlugin implements ConcurrentEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportingPlugin.class);
+    private static final String LIVE_RESULTS_FILE = "live-results.jsonl";
+    private static final int BATCH_SIZE = 256;
+    private static final Entry END_OF_RUN = new Entry(null, new ScenarioState(), List.of(), List.of());
+    private static final AtomicBoolean DEFERRED = new AtomicBoolean();
+    private static final MetricsRegistry.Histogram SCENARIO_DURATION = MetricsRegistry.histogram(
+            "test_scenario_duration_seconds", "Scenario execution time",
+            new double[] {1, 2.5, 5, 10, 20, 30, 60, 120, 300});
+
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final ThreadLocal<ScenarioState> scenarioState = ThreadLocal.withInitial(ScenarioState::new);
+    private Thread writer;
+
+    @Override
+    public void setEventPublisher(final EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, event -> runStarted());
+        publisher.registerHandlerFor(TestStepFinished.class, this::stepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::scenarioFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> runFinished());
+    }
+
+    private void runStarted() {
+        if (!FailedScenarioRerun.isRerun()) {
+            ReportingUtil.initialize();
+            MetricsRegistry.initialize();
+        }
+        writer = new Thread(this::drain, "reporting-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private void stepFinished(final TestStepFinished event) {
+        if (!(event.getTestStep() instanceof PickleStepTestStep)) {
+            return;
+        }
+        final PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+        final Result result = event.getResult();
+        final ScenarioState state = scenarioState.get();
+        if (result.getStatus() == Status.PASSED) {
+            state.stepDurations.merge(step.getPattern(), result.getDuration().toMillis(), Long::sum);
+        } else if (result.getStatus() == Status.FAILED && state.failedStep == null) {
+            // Remember the first failing step of the scenario running on this thread
+            state.failedStep = step.getStep().getText();
+        }
+    }
+
+    /**
+     * Runs on the test thread: collect the thread-local scenario data, then
+     * hand off to the writer.
+     */
+    private void scenarioFinished(final TestCaseFinished event) {
+        final ScenarioState state = scenarioState.get();
+        scenarioState.remove();
+        queue.add(new Entry(event, state, PagePerformance.endScenario(), PerformanceBudget.endScenario()));
+    }
+
+    private void runFinished() {
+        queue.add(END_OF_RUN);
+        if (writer != null) {
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        DEFERRED.set(true);
+        if (!FailedScenarioRerun.isPending()) {
+            finishDeferredRun();
+        }
+    }
+
+    /**
+     * Write the reports, duration history and metrics of a finished run, once.
+     */
+    static void finishDeferredRun() {
+        if (!DEFERRED.compareAndSet(true, false)) {
+            return;
+        }
+        ReportingUtil.compareWithBaseline();
+        ReportingUtil.persistOutcomes();
+        ReportingUtil.generateJsonReport();
+        ReportingUtil.generateHtmlReport();
+        ReportingUtil.generateFlakinessFeed();
+        AccessibilityReportStore.write();
+        ReportingUtil.persistDurations();
+        ReportingUtil.persistBaseline();
+        MetricsRegistry.export();
+    }
+
+    /**
+     * Writer loop: block for the first entry, then take whatever else is
+     * queued so results are recorded and flushed in batches. Results always
+     * reach ReportingUtil; the live file is best-effort and is given up on
+     * the first I/O error.
+     */
+    private void drain() {
+        final Path liveFile = Paths.get(ReportingUtil.getReportsDir(), LIVE_RESULTS_FILE);
+        final List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+        BufferedWriter out = openLiveFile(liveFile);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                for (final Entry entry : batch) {
+                    if (entry == END_OF_RUN) {
+                        return;
+                    }
+                    final JsonObject line = record(entry);
+                    if (out != null) {
+                        try {
+                            out.write(line.toString());
+                            out.newLine();
+                        } catch (final IOException e) {
+                            logger.error("Failed to write live results: {}", liveFile, e);
+                            out = closeQuietly(out);
+                        }
+                    }
+                }
+                if (out != null) {
+                    try {
+                        out.flush();
+                    } catch (final IOException e) {
+                        logger.error("Failed to write live results: {}", liveFile, e);
+                        out = closeQuietly(out);
+                    }
+                }
+                batch.clear();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeQuietly(out);
+        }
+    }
+
+    private static BufferedWriter openLiveFile(final Path liveFile) {
+        try {
+            Files.createDirectories(liveFile.getParent());
+            return Files.newBufferedWriter(liveFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, FailedScenarioRerun.isRerun()
+                            ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (final IOException e) {
+            logger.error("Failed to open live results: {} - recording results without it", liveFile, e);
+            return null;
+        }
+    }
+
+    private static BufferedWriter closeQuietly(final BufferedWriter out) {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (final IOException e) {
+                logger.debug("Failed to close live results", e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Record a finished scenario in ReportingUtil and the metrics.
+     *
+     * @return the live-results line of the scenario
+     */
+    private static JsonObject record(final Entry entry) {
+        final TestCase testCase = entry.event.getTestCase();
+        final Result result = entry.event.getResult();
+        final String testId = ScenarioId.of(testCase.getUri(), testCase.getLocation().getLine());
+        final String status = statusOf(result.getStatus());
+        final long duration = result.getDuration().toMillis();
+        final String message = messageOf(result, entry.state.failedStep);
+
+        if (entry.rerun) {
+            ReportingUtil.recordRerunResult(testId, testCase.getName(), status, duration, message);
+            MetricsRegistry.counter("test_scenario_reruns", "Failed scenarios rerun", "status", status).inc();
+        } else {
+            ReportingUtil.recordTestResult(testId, testCase.getName(), status, duration, message);
+            MetricsRegistry.counter("test_scenarios", "Scenarios finished", "status", status).inc();
+        }
+        ReportingUtil.recordStepDurations(entry.state.stepDurations);
+        ReportingUtil.recordPagePerformance(testId, entry.pagePerformance);
+        ReportingUtil.recordBudgetViolations(testId, entry.budgetViolations);
+        SCENARIO_DURATION.observeMillis(duration);
+
+        final JsonObject line = new JsonObject();
+        line.addProperty("id", testId);
+        line.addProperty("name", testCase.getName());
+        line.addProperty("status", status);
+        line.addProperty("ms", duration);
+        line.addProperty("finished", entry.event.getInstant().toEpochMilli());
+        if (message != null) {
+            line.addProperty("message", message);
+        }
+        if (entry.rerun) {
+            line.addProperty("rerun", true);
+        }
+        return line;
+    }
+
+    /**
+     * Map Cucumber statuses onto the PASSED/FAILED/SKIPPED set used by the
+     * reports. Undefined, pending and ambiguous steps fail the scenario.
+     */
+    private static String statusOf(final Status status) {
+        switch (status) {
+            case PASSED:
+                return "PASSED";
+            case SKIPPED:
+                return "SKIPPED";
+            default:
+                return "FAILED";
+        }
+    }
+
+    private static String messageOf(final Result result, final String failedStep) {
+        final Throwable error = result.getError();
+        if (error == null) {
+            return failedStep != null ? "Failed at: " + failedStep : null;
+        }
+        final String reason = error.getMessage() != null ? error.getMessage() : error.getClass().getName();
+        return failedStep != null ? failedStep + ": " + reason : reason;
+    }
+
+    /**
+     * Step data of the scenario running on a thread.
+     */
+    private static final class ScenarioState {
+        final Map<String, Long> stepDurations = new LinkedHashMap<>();
+        String failedStep;
+    }
+
+    /**
+     * A finished scenario waiting to be recorded.
+     */
+    private static final class Entry {
+        final TestCaseFinished event;
+        final ScenarioState state;
+        final List<PagePerformance.Snapshot> pagePerformance;
+        final List<PerformanceBudget.Violation> budgetViolations;
+        final boolean rerun = FailedScenarioRerun.isRerun();
+
+        Entry(
+                final TestCaseFinished event,
+                final ScenarioState state,
+                final List<PagePerformance.Snapshot> pagePerformance,
+                final List<PerformanceBudget.Violation> budgetViolations) {
+            this.event = event;
+            this.state = state;
+            this.pagePerformance = pagePerformance;
+            this.budgetViolations = budgetViolations;
+        }
+    }
+}
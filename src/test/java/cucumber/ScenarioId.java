@@ -0,0 +1,81 @@
+package cucumber;
+
+import io.cucumber.java.Scenario;
+import java.net.URI;
+import java.util.Optional;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.FilePosition;
+import org.junit.platform.engine.support.descriptor.FileSource;
+import org.junit.platform.launcher.TestIdentifier;
+
+/**
+ * Builds stable scenario ids of the form {@code features/ui/login.feature:7}.
+ * The same id is derived from a running Cucumber scenario and from the
+ * JUnit Platform descriptor discovered for it, so duration history recorded
+ * at runtime can be matched against the discovered test plan.
+ */
+public final class ScenarioId {
+
+    private ScenarioId() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Id of a running scenario.
+     *
+     * @param scenario the Cucumber scenario
+     * @return the scenario id
+     */
+    public static String of(final Scenario scenario) {
+        return of(scenario.getUri(), scenario.getLine());
+    }
+
+    /**
+     * Id of a feature location.
+     *
+     * @param uri  the feature URI (classpath: or file:)
+     * @param line the scenario (or example row) line
+     * @return the scenario id
+     */
+    public static String of(final URI uri, final Integer line) {
+        return uri.getSchemeSpecificPart() + ":" + line;
+    }
+
+    /**
+     * Id of a discovered scenario descriptor.
+     *
+     * @param descriptor the JUnit Platform test descriptor
+     * @return the scenario id, or empty if the descriptor is not a Cucumber scenario
+     */
+    public static Optional<String> of(final TestDescriptor descriptor) {
+        return of(descriptor.getSource().orElse(null));
+    }
+
+    /**
+     * Id of an executed scenario, as seen by launcher listeners.
+     *
+     * @param identifier the JUnit Platform test identifier
+     * @return the scenario id, or empty if the identifier is not a Cucumber scenario
+     */
+    public static Optional<String> of(final TestIdentifier identifier) {
+        return of(identifier.getSource().orElse(null));
+    }
+
+    private static Optional<String> of(final TestSource source) {
+        if (source instanceof ClasspathResourceSource) {
+            final ClasspathResourceSource resource = (ClasspathResourceSource) source;
+            return resource.getPosition()
+                    .map(FilePosition::getLine)
+                    .map(line -> resource.getClasspathResourceName() + ":" + line);
+        }
+        if (source instanceof FileSource) {
+            final FileSource file = (FileSource) source;
+            return file.getPosition()
+                    .map(FilePosition::getLine)
+                    .map(line -> file.getFile().getAbsolutePath() + ":" + line);
+        }
+        return Optional.empty();
+    }
+}
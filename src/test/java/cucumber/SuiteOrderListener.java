@@ -0,0 +1,18 @@
+package cucumber;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * JUnit Platform listener that applies the scheduling order planned by
+ * {@link SuitePlanFilter} when the test plan starts executing, so the filter
+ * itself has no side effects on the discovered tree.
+ * Registered through META-INF/services.
+ */
+public class SuiteOrderListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionStarted(final TestPlan testPlan) {
+        SuitePlanFilter.applyPlannedOrder();
+    }
+}
@@ -0,0 +1,261 @@
+package cucumber;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.TagFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.ConfigReader;
+import utils.ReportingUtil;
+import utils.ScenarioSelector;
+import utils.ShardPlanner;
+
+/**
+ * JUnit Platform post-discovery filter that plans which Cucumber scenarios
+ * this JVM executes.
+ * Registered through META-INF/services so it applies to the whole discovered
+ * suite. With {@code shard.count > 1} only the scenarios assigned to
+ * {@code shard.index} (zero-based) are kept; the assignment balances shards
+ * using the duration history persisted by {@link ReportingUtil}.
+ * With {@code schedule.longest.first} (default) the slowest features and
+ * scenarios start first, which keeps parallel workers from idling behind
+ * one long scenario at the end of the run. With {@code selection.mode} set,
+ * scenarios impacted by the change set (see {@link ScenarioSelector}) run
+ * first, or exclusively.
+ *
+ * <p>
+ * {@link #apply} only includes or excludes descriptors. The scheduling
+ * order is computed with the plan but applied by {@link SuiteOrderListener}
+ * when execution starts, see {@link #applyPlannedOrder()}.
+ *
+ * <p>
+ * Only scenarios that pass the Surefire tag filters ({@code groups} and
+ * {@code excludedGroups}, as tag expressions) are planned, so scenarios the
+ * tag filter removes later do not take shard capacity.
+ */
+public class SuitePlanFilter implements PostDiscoveryFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuitePlanFilter.class);
+    private static final long FALLBACK_DURATION_MS = 5000;
+    private static volatile Runnable plannedOrder;
+
+    private final int shardCount = ConfigReader.getInt("shard.count", 1);
+    private final int shardIndex = ConfigReader.getInt("shard.index", 0);
+    private final boolean longestFirst = ConfigReader.getBoolean("schedule.longest.first", true);
+    private final ScenarioSelector selector = ScenarioSelector.fromConfig();
+    private final List<PostDiscoveryFilter> tagFilters = tagFilters();
+
+    private TestDescriptor plannedRoot;
+    private Map<String, Integer> assignment = Collections.emptyMap();
+    private Set<String> selected = Collections.emptySet();
+
+    @Override
+    public FilterResult apply(final TestDescriptor descriptor) {
+        if (shardCount <= 1 && !longestFirst && !selector.isActive()) {
+            return FilterResult.included("Planning disabled");
+        }
+
+        final String scenarioId = ScenarioId.of(descriptor).orElse(null);
+        if (scenarioId == null || !descriptor.isTest()) {
+            return FilterResult.included("Not a Cucumber scenario");
+        }
+
+        final Map<String, Integer> plan = planFor(descriptor);
+        if (selector.isExclusive() && !selected.contains(scenarioId)) {
+            return FilterResult.excluded("Not impacted by the change set");
+        }
+
+        final Integer shard = plan.get(scenarioId);
+        if (shardCount <= 1 || shard == null || shard == shardIndex) {
+            return FilterResult.included("Assigned to shard " + shardIndex);
+        }
+        return FilterResult.excluded("Assigned to shard " + shard);
+    }
+
+    /**
+     * Compute the selection, shard assignment and scheduling order once for
+     * the whole discovered tree.
+     *
+     * @param descriptor any descriptor of the tree
+     * @return map of scenario id to shard index
+     */
+    private synchronized Map<String, Integer> planFor(final TestDescriptor descriptor) {
+        final TestDescriptor root = rootOf(descriptor);
+        if (root == plannedRoot) {
+            return assignment;
+        }
+
+        final List<String> scenarioIds = new ArrayList<>();
+        final Set<String> impacted = new HashSet<>();
+        for (final TestDescriptor candidate : root.getDescendants()) {
+            if (!candidate.isTest() || !matchesTagFilters(candidate)) {
+                continue;
+            }
+            ScenarioId.of(candidate).ifPresent(id -> {
+                final boolean isImpacted = selector.isActive() && selector.isSelected(id, tagsOf(candidate));
+                if (isImpacted) {
+                    impacted.add(id);
+                }
+                if (isImpacted || !selector.isExclusive()) {
+                    scenarioIds.add(id);
+                }
+            });
+        }
+
+        final Map<String, Long> durations = ReportingUtil.loadDurations();
+        final long defaultDuration = ShardPlanner.defaultDuration(durations, FALLBACK_DURATION_MS);
+        assignment = ShardPlanner.assign(scenarioIds, durations, shardCount, defaultDuration);
+        selected = impacted;
+        plannedRoot = root;
+
+        if (longestFirst || selector.isActive()) {
+            final String strategy = !selector.isActive() ? "longest-first"
+                    : longestFirst ? "impacted-first, then longest-first" : "impacted-first";
+            plannedOrder = () -> {
+                order(root, durations, defaultDuration);
+                logger.info("✓ Scenarios scheduled {}", strategy);
+            };
+        }
+        if (selector.isActive()) {
+            logger.info("✓ {} impacted scenarios selected ({})", impacted.size(),
+                    selector.isExclusive() ? "running only those" : "running those first");
+        }
+        if (shardCount > 1) {
+            final long assigned = assignment.values().stream().filter(shard -> shard == shardIndex).count();
+            logger.info("✓ Shard {}/{} planned: {} of {} scenarios ({} with duration history)",
+                    shardIndex, shardCount, assigned, scenarioIds.size(),
+                    scenarioIds.stream().filter(durations::containsKey).count());
+        }
+        return assignment;
+    }
+
+    /**
+     * Apply the scheduling order planned during discovery to the discovered
+     * tree, once. This is the only place the tree is modified; it runs when
+     * the test plan starts executing, after all post-discovery filters, and
+     * does nothing if no order was planned.
+     */
+    static void applyPlannedOrder() {
+        final Runnable order = plannedOrder;
+        plannedOrder = null;
+        if (order != null) {
+            order.run();
+        }
+    }
+
+    /**
+     * Reorder children of every container: subtrees containing impacted
+     * scenarios first, then by descending expected duration.
+     * JUnit Platform executes children in insertion order, so removing and
+     * re-adding them in sorted order changes the order they are scheduled in.
+     * Children that filters removed are already gone from the tree.
+     *
+     * @param node            the subtree root
+     * @param durations       expected durations by scenario id
+     * @param defaultDuration expected duration for scenarios without history
+     * @return the scheduling key of the subtree
+     */
+    private Priority order(
+            final TestDescriptor node,
+            final Map<String, Long> durations,
+            final long defaultDuration) {
+        if (node.isTest()) {
+            return ScenarioId.of(node)
+                    .map(id -> new Priority(selected.contains(id), durations.getOrDefault(id, defaultDuration)))
+                    .orElse(new Priority(false, 0));
+        }
+
+        final Map<TestDescriptor, Priority> childPriorities = new HashMap<>();
+        boolean impacted = false;
+        long total = 0;
+        for (final TestDescriptor child : new ArrayList<>(node.getChildren())) {
+            final Priority priority = order(child, durations, defaultDuration);
+            childPriorities.put(child, priority);
+            impacted |= priority.impacted;
+            total += priority.duration;
+        }
+
+        if (childPriorities.size() > 1) {
+            Comparator<TestDescriptor> comparator = Comparator.comparing(
+                    (TestDescriptor child) -> !childPriorities.get(child).impacted);
+            if (longestFirst) {
+                comparator = comparator.thenComparing(
+                        Comparator.comparingLong((TestDescriptor child) -> childPriorities.get(child).duration)
+                                .reversed());
+            }
+            final List<TestDescriptor> ordered = new ArrayList<>(node.getChildren());
+            ordered.sort(comparator);
+            for (final TestDescriptor child : ordered) {
+                node.removeChild(child);
+                node.addChild(child);
+            }
+        }
+        return new Priority(impacted, total);
+    }
+
+    /**
+     * Tag filters equivalent to the ones Surefire applies for
+     * {@code -Dgroups} and {@code -DexcludedGroups}; comma-separated
+     * expressions are alternatives, as in Surefire.
+     */
+    private static List<PostDiscoveryFilter> tagFilters() {
+        final List<PostDiscoveryFilter> filters = new ArrayList<>();
+        final String groups = ConfigReader.get("groups");
+        if (groups != null && !groups.isBlank()) {
+            filters.add(TagFilter.includeTags(splitTags(groups)));
+        }
+        final String excludedGroups = ConfigReader.get("excludedGroups");
+        if (excludedGroups != null && !excludedGroups.isBlank()) {
+            filters.add(TagFilter.excludeTags(splitTags(excludedGroups)));
+        }
+        return filters;
+    }
+
+    private static String[] splitTags(final String expressions) {
+        return Arrays.stream(expressions.split(","))
+                .map(String::trim)
+                .filter(expression -> !expression.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private boolean matchesTagFilters(final TestDescriptor descriptor) {
+        return tagFilters.stream().allMatch(filter -> filter.apply(descriptor).included());
+    }
+
+    private static Set<String> tagsOf(final TestDescriptor descriptor) {
+        return descriptor.getTags().stream().map(TestTag::getName).collect(Collectors.toSet());
+    }
+
+    private static TestDescriptor rootOf(final TestDescriptor descriptor) {
+        TestDescriptor current = descriptor;
+        while (current.getParent().isPresent()) {
+            current = current.getParent().get();
+        }
+        return current;
+    }
+
+    /**
+     * Scheduling key of a subtree.
+     */
+    private static final class Priority {
+        final boolean impacted;
+        final long duration;
+
+        Priority(final boolean impacted, final long duration) {
+            this.impacted = impacted;
+            this.duration = duration;
+        }
+    }
+}
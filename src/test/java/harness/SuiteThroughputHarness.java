@@ -0,0 +1,408 @@
+package harness;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.cucumber.junit.platform.engine.Constants;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.ConfigReader;
+import utils.MetricsRegistry;
+import utils.ReportingUtil;
+
+/**
+ * End-to-end throughput harness: runs the Cucumber features against the
+ * bundled login.html/home.html pages (served by {@link utils.StaticServer})
+ * repeatedly for each configured worker count and reports how throughput
+ * scales with parallelism.
+ * For every run it measures wall time, CPU time and peak RSS of the JVM and
+ * of the browser processes it spawned (read from /proc, so Linux only), and
+ * the browser context creation rate. The scaling curve is written as JSON and
+ * HTML to {@code target/harness}.
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.mainClass=harness.SuiteThroughputHarness \
+ *     -Dexec.classpathScope=test -Dharness.workers=1,2,4 -Dharness.repeats=3
+ * </pre>
+ */
+public final class SuiteThroughputHarness {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuiteThroughputHarness.class);
+    private static final String OUTPUT_DIR = "target/harness";
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+    private static final long SAMPLE_INTERVAL_MS = 250;
+    private static final double CLOCK_TICKS_PER_SECOND = 100;
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    private SuiteThroughputHarness() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Run the harness.
+     *
+     * @param args unused; configure with {@code harness.*} system properties
+     */
+    public static void main(final String[] args) {
+        configureDefaults();
+
+        final List<Integer> workers = Arrays.stream(ConfigReader.get("harness.workers", "1,2,4").split(","))
+                .map(String::trim).filter(s -> !s.isEmpty()).map(Integer::parseInt).collect(Collectors.toList());
+        final int repeats = ConfigReader.getInt("harness.repeats", 3);
+        final List<String> features = Arrays.stream(
+                ConfigReader.get("harness.features", "features/ui,features/api,features/accessibility").split(","))
+                .map(String::trim).filter(s -> !s.isEmpty()).collect(Collectors.toList());
+        logger.info("Throughput harness: workers {} x {} repeats over {}", workers, repeats, features);
+
+        final List<Point> curve = new ArrayList<>();
+        for (final int workerCount : workers) {
+            final List<Run> runs = new ArrayList<>();
+            for (int i = 1; i <= repeats; i++) {
+                final Run run = execute(features, workerCount);
+                logger.info("✓ {} workers, run {}/{}: {} scenarios in {} ms ({} failed)",
+                        workerCount, i, repeats, run.scenarios, run.wallMs, run.failed);
+                runs.add(run);
+            }
+            curve.add(new Point(workerCount, runs));
+        }
+
+        final Point reference = curve.isEmpty() ? null : curve.get(0);
+        for (final Point point : curve) {
+            point.compareWith(reference);
+        }
+        writeReports(curve, features, repeats);
+    }
+
+    /**
+     * Run headless, without reruns of failed scenarios (they would distort
+     * throughput), and keep harness runs out of the duration history used for
+     * sharding. Explicit system properties win.
+     */
+    private static void configureDefaults() {
+        System.setProperty("headless", System.getProperty("headless", "true"));
+        System.setProperty("test.retry.count", System.getProperty("test.retry.count", "0"));
+        System.setProperty("history.dir", System.getProperty("history.dir", OUTPUT_DIR + "/history"));
+    }
+
+    private static Run execute(final List<String> features, final int workerCount) {
+        ReportingUtil.clearResults();
+        final MetricsRegistry.Counter contexts = MetricsRegistry.counter(
+                "playwright_contexts_created", "Browser contexts created");
+        final long contextsBefore = contexts.get();
+
+        final LauncherDiscoveryRequestBuilder builder = LauncherDiscoveryRequestBuilder.request()
+                .filters(EngineFilter.includeEngines("cucumber"))
+                .configurationParameter(Constants.GLUE_PROPERTY_NAME, "cucumber,steps")
+                .configurationParameter(Constants.PLUGIN_PROPERTY_NAME,
+                        "cucumber.ReportingPlugin,cucumber.InstrumentationPlugin")
+                .configurationParameter(Constants.PLUGIN_PUBLISH_QUIET_PROPERTY_NAME, "true")
+                .configurationParameter(Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME,
+                        String.valueOf(workerCount > 1))
+                .configurationParameter(Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed")
+                .configurationParameter(Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME,
+                        String.valueOf(workerCount))
+                .configurationParameter(Constants.PARALLEL_CONFIG_FIXED_MAX_POOL_SIZE_PROPERTY_NAME,
+                        String.valueOf(workerCount));
+        final String tags = ConfigReader.get("harness.tags");
+        if (tags != null && !tags.isBlank()) {
+            builder.configurationParameter(Constants.FILTER_TAGS_PROPERTY_NAME, tags);
+        }
+        features.forEach(feature -> builder.selectors(DiscoverySelectors.selectClasspathResource(feature)));
+        final LauncherDiscoveryRequest request = builder.build();
+
+        final SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        final ResourceSampler sampler = new ResourceSampler();
+        final long cpuBefore = processCpuNanos();
+        final long start = System.nanoTime();
+        sampler.start();
+        try {
+            LauncherFactory.create().execute(request, listener);
+        } finally {
+            sampler.stopSampling();
+        }
+        final long wallMs = (System.nanoTime() - start) / 1_000_000;
+
+        final TestExecutionSummary summary = listener.getSummary();
+        final Run run = new Run();
+        run.wallMs = wallMs;
+        run.scenarios = summary.getTestsSucceededCount() + summary.getTestsFailedCount();
+        run.failed = summary.getTestsFailedCount();
+        run.jvmCpuMs = (processCpuNanos() - cpuBefore) / 1_000_000;
+        run.browserCpuMs = sampler.childCpuMs();
+        run.jvmPeakRssMb = sampler.jvmPeakRssKb / 1024.0;
+        run.browserPeakRssMb = sampler.childPeakRssKb / 1024.0;
+        run.contextsCreated = contexts.get() - contextsBefore;
+        return run;
+    }
+
+    private static long processCpuNanos() {
+        final java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+        }
+        return 0;
+    }
+
+    private static void writeReports(final List<Point> curve, final List<String> features, final int repeats) {
+        final String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", timestamp);
+        report.put("features", features);
+        report.put("repeats", repeats);
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("curve", curve);
+
+        try {
+            final Path dir = Paths.get(OUTPUT_DIR);
+            Files.createDirectories(dir);
+            final Path json = dir.resolve("throughput-" + timestamp + ".json");
+            final Path html = dir.resolve("throughput-" + timestamp + ".html");
+            Files.writeString(json, gson.toJson(report), StandardCharsets.UTF_8);
+            Files.writeString(html, htmlReport(curve, features, repeats), StandardCharsets.UTF_8);
+            logger.info("✓ Throughput report generated: {} / {}", json, html);
+        } catch (final IOException e) {
+            logger.error("Failed to write throughput report", e);
+        }
+    }
+
+    private static String htmlReport(final List<Point> curve, final List<String> features, final int repeats) {
+        final StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n")
+                .append("<title>Suite Throughput</title>\n<style>\n")
+                .append("body { font-family: Arial, sans-serif; margin: 20px; }\n")
+                .append("table { border-collapse: collapse; margin-top: 20px; }\n")
+                .append("th, td { border: 1px solid #ddd; padding: 8px; text-align: right; }\n")
+                .append("th { background-color: #4CAF50; color: white; }\n")
+                .append("</style>\n</head>\n<body>\n")
+                .append("<h1>Suite Throughput</h1>\n")
+                .append("<p>Features: ").append(String.join(", ", features))
+                .append(" | Repeats: ").append(repeats)
+                .append(" | CPUs: ").append(Runtime.getRuntime().availableProcessors()).append("</p>\n");
+
+        html.append(scalingChart(curve));
+
+        html.append("<table>\n<tr><th>Workers</th><th>Scenarios</th><th>Median wall (s)</th>")
+                .append("<th>Scenarios/min</th><th>Speedup</th><th>Efficiency</th>")
+                .append("<th>JVM CPU (s)</th><th>Browser CPU (s)</th><th>JVM peak RSS (MB)</th>")
+                .append("<th>Browser peak RSS (MB)</th><th>Contexts/s</th><th>Failed</th></tr>\n");
+        for (final Point point : curve) {
+            html.append(String.format("<tr><td>%d</td><td>%d</td><td>%.1f</td><td>%.1f</td><td>%.2fx</td>"
+                    + "<td>%.0f%%</td><td>%.1f</td><td>%.1f</td><td>%.0f</td><td>%.0f</td><td>%.2f</td><td>%d</td></tr>\n",
+                    point.workers, point.scenarios, point.medianWallMs / 1000.0, point.scenariosPerMinute,
+                    point.speedup, point.efficiency * 100, point.jvmCpuMs / 1000.0, point.browserCpuMs / 1000.0,
+                    point.jvmPeakRssMb, point.browserPeakRssMb, point.contextsPerSecond, point.failed));
+        }
+        html.append("</table>\n</body>\n</html>");
+        return html.toString();
+    }
+
+    /**
+     * Inline SVG of scenarios/minute against worker count, with the linear
+     * scaling line of the first point for reference.
+     */
+    private static String scalingChart(final List<Point> curve) {
+        if (curve.isEmpty()) {
+            return "";
+        }
+        final int width = 600;
+        final int height = 300;
+        final int margin = 40;
+        final Point first = curve.get(0);
+        final int maxWorkers = curve.stream().mapToInt(p -> p.workers).max().orElse(1);
+        final double linearMax = first.workers > 0 ? first.scenariosPerMinute * maxWorkers / first.workers : 0;
+        final double maxY = Math.max(1, Math.max(linearMax,
+                curve.stream().mapToDouble(p -> p.scenariosPerMinute).max().orElse(1)));
+
+        final StringBuilder svg = new StringBuilder();
+        svg.append(String.format("<svg width=\"%d\" height=\"%d\" xmlns=\"http://www.w3.org/2000/svg\">\n",
+                width, height));
+        svg.append(String.format("<line x1=\"%d\" y1=\"%d\" x2=\"%d\" y2=\"%d\" stroke=\"#333\"/>\n",
+                margin, height - margin, width - margin, height - margin));
+        svg.append(String.format("<line x1=\"%d\" y1=\"%d\" x2=\"%d\" y2=\"%d\" stroke=\"#333\"/>\n",
+                margin, margin, margin, height - margin));
+        svg.append(String.format("<text x=\"%d\" y=\"%d\" font-size=\"12\">scenarios/min (max %.0f)</text>\n",
+                margin, margin - 10, maxY));
+
+        final StringBuilder measured = new StringBuilder();
+        final StringBuilder linear = new StringBuilder();
+        for (final Point point : curve) {
+            final double x = margin + (double) point.workers / maxWorkers * (width - 2 * margin);
+            final double y = height - margin - point.scenariosPerMinute / maxY * (height - 2 * margin);
+            final double linearY = height - margin
+                    - first.scenariosPerMinute * point.workers / first.workers / maxY * (height - 2 * margin);
+            measured.append(String.format("%.1f,%.1f ", x, y));
+            linear.append(String.format("%.1f,%.1f ", x, linearY));
+            svg.append(String.format("<circle cx=\"%.1f\" cy=\"%.1f\" r=\"4\" fill=\"#4CAF50\"/>\n", x, y));
+            svg.append(String.format("<text x=\"%.1f\" y=\"%d\" font-size=\"12\" text-anchor=\"middle\">%d</text>\n",
+                    x, height - margin + 15, point.workers));
+        }
+        svg.append("<polyline points=\"").append(linear.toString().trim())
+                .append("\" fill=\"none\" stroke=\"#bbb\" stroke-dasharray=\"4\"/>\n");
+        svg.append("<polyline points=\"").append(measured.toString().trim())
+                .append("\" fill=\"none\" stroke=\"#4CAF50\" stroke-width=\"2\"/>\n");
+        svg.append("</svg>\n");
+        return svg.toString();
+    }
+
+    /**
+     * Measurements of one suite run.
+     */
+    private static final class Run {
+        long wallMs;
+        long scenarios;
+        long failed;
+        long jvmCpuMs;
+        long browserCpuMs;
+        double jvmPeakRssMb;
+        double browserPeakRssMb;
+        long contextsCreated;
+    }
+
+    /**
+     * Aggregated runs for one worker count.
+     */
+    private static final class Point {
+        final int workers;
+        final long scenarios;
+        final long failed;
+        final long medianWallMs;
+        final double scenariosPerMinute;
+        final long jvmCpuMs;
+        final long browserCpuMs;
+        final double jvmPeakRssMb;
+        final double browserPeakRssMb;
+        final double contextsPerSecond;
+        final List<Run> runs;
+        double speedup = 1;
+        double efficiency = 1;
+
+        Point(final int workers, final List<Run> runs) {
+            this.workers = workers;
+            this.runs = runs;
+            final Run median = runs.stream().sorted((a, b) -> Long.compare(a.wallMs, b.wallMs))
+                    .collect(Collectors.toList()).get((runs.size() - 1) / 2);
+            this.scenarios = median.scenarios;
+            this.failed = runs.stream().mapToLong(r -> r.failed).sum();
+            this.medianWallMs = median.wallMs;
+            this.scenariosPerMinute = median.wallMs > 0 ? median.scenarios * 60_000.0 / median.wallMs : 0;
+            this.jvmCpuMs = median.jvmCpuMs;
+            this.browserCpuMs = median.browserCpuMs;
+            this.jvmPeakRssMb = runs.stream().mapToDouble(r -> r.jvmPeakRssMb).max().orElse(0);
+            this.browserPeakRssMb = runs.stream().mapToDouble(r -> r.browserPeakRssMb).max().orElse(0);
+            this.contextsPerSecond = median.wallMs > 0 ? median.contextsCreated * 1000.0 / median.wallMs : 0;
+        }
+
+        void compareWith(final Point reference) {
+            if (reference == null || reference.scenariosPerMinute <= 0) {
+                return;
+            }
+            speedup = scenariosPerMinute / reference.scenariosPerMinute;
+            efficiency = speedup * reference.workers / workers;
+        }
+    }
+
+    /**
+     * Background sampler of RSS and CPU time of the JVM and the browser
+     * processes below it (Playwright driver and browsers).
+     * Child CPU time is the last value seen per process, so ticks spent after
+     * the final sample of a short-lived process are not counted.
+     */
+    private static final class ResourceSampler extends Thread {
+        private final Map<Long, Long> childCpuTicks = new ConcurrentHashMap<>();
+        private volatile boolean running = true;
+        volatile long jvmPeakRssKb;
+        volatile long childPeakRssKb;
+
+        ResourceSampler() {
+            super("harness-sampler");
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                sample();
+                try {
+                    Thread.sleep(SAMPLE_INTERVAL_MS);
+                } catch (final InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        void stopSampling() {
+            running = false;
+            interrupt();
+            try {
+                join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sample();
+        }
+
+        long childCpuMs() {
+            final long ticks = childCpuTicks.values().stream().mapToLong(Long::longValue).sum();
+            return (long) (ticks * 1000 / CLOCK_TICKS_PER_SECOND);
+        }
+
+        private void sample() {
+            jvmPeakRssKb = Math.max(jvmPeakRssKb, rssKb(ProcessHandle.current().pid()));
+            long childRss = 0;
+            for (final ProcessHandle child : ProcessHandle.current().descendants().collect(Collectors.toList())) {
+                final long pid = child.pid();
+                childRss += rssKb(pid);
+                final long ticks = cpuTicks(pid);
+                if (ticks > 0) {
+                    childCpuTicks.merge(pid, ticks, Math::max);
+                }
+            }
+            childPeakRssKb = Math.max(childPeakRssKb, childRss);
+        }
+
+        private static long rssKb(final long pid) {
+            try {
+                for (final String line : Files.readAllLines(Paths.get("/proc", String.valueOf(pid), "status"))) {
+                    if (line.startsWith("VmRSS:")) {
+                        return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                    }
+                }
+            } catch (final IOException | RuntimeException e) {
+                // Process exited or /proc is unavailable (non-Linux)
+            }
+            return 0;
+        }
+
+        private static long cpuTicks(final long pid) {
+            try {
+                final String stat = Files.readString(Paths.get("/proc", String.valueOf(pid), "stat"));
+                // Fields after the parenthesised command name start at field 3 (state)
+                final String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+                return Long.parseLong(fields[11]) + Long.parseLong(fields[12]);
+            } catch (final IOException | RuntimeException e) {
+                return 0;
+            }
+        }
+    }
+}
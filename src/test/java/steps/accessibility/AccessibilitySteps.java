@@ -1,17 +1,23 @@
 package steps.accessibility;
 
+import com.google.gson.JsonObject;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import core.AuthStateCache;
 import cucumber.ScenarioContext;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.When;
 import io.cucumber.java.en.Then;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pages.LoginPage;
 import pages.HomePage;
+import utils.AccessibilityCrawler;
 import utils.AccessibilityUtil;
 import utils.ConfigReader;
+import utils.FixtureLoader;
 
 /**
  * Step definitions for accessibility testing.
@@ -20,17 +26,37 @@ import utils.ConfigReader;
 public class AccessibilitySteps {
 
     private static final Logger logger = LoggerFactory.getLogger(AccessibilitySteps.class);
+    private static final JsonObject ROLES = FixtureLoader.loadFixture("roles.json", JsonObject.class);
     private String scanResult;
+    private AccessibilityCrawler.CrawlReport crawlReport;
+    private AccessibilityUtil.IncrementalScan incrementalScan;
 
     @Given("I am logged in and on the home page")
     public void loginAndGoToHomePage() {
-        logger.info("Step: Logging in and navigating to home page");
-        final Page page = ScenarioContext.getPage();
-        final LoginPage loginPage = new LoginPage(page);
-        loginPage.open();
-        loginPage.login("user@example.com", "SecurePassword123");
+        loginAsRoleAndGoToHomePage("user");
+    }
 
+    @Given("I am logged in as {string} and on the home page")
+    public void loginAsRoleAndGoToHomePage(final String role) {
+        logger.info("Step: Logging in as {} and navigating to home page", role);
+        if (!ROLES.has(role)) {
+            throw new RuntimeException("No credentials for role " + role + " in roles.json");
+        }
+        final String email = ROLES.getAsJsonObject(role).get("email").getAsString();
+        final String password = ROLES.getAsJsonObject(role).get("password").getAsString();
+        final Page page = ScenarioContext.getPage();
         final HomePage homePage = new HomePage(page);
+
+        // One UI login per role across all workers; scenarios reuse the shared storage state
+        final boolean reused = AuthStateCache.authenticate(page, role, loginPage -> {
+            final LoginPage login = new LoginPage(loginPage);
+            login.open();
+            login.login(email, password);
+            new HomePage(loginPage).verifyPageUrl("/home");
+        });
+        if (reused) {
+            homePage.open();
+        }
         homePage.verifyOnHomePage();
     }
 
@@ -42,6 +68,55 @@ public class AccessibilitySteps {
         scanResult = "SCAN_COMPLETED";
     }
 
+    @When("accessibility changes are tracked")
+    public void trackAccessibilityChanges() {
+        logger.info("Step: Tracking DOM changes for incremental accessibility scans");
+        AccessibilityUtil.trackChanges(ScenarioContext.getPage());
+    }
+
+    @When("I run an incremental accessibility scan")
+    public void runIncrementalAccessibilityScan() {
+        logger.info("Step: Running incremental accessibility scan");
+        final Page page = ScenarioContext.getPage();
+        incrementalScan = AccessibilityUtil.scanIncremental(page, "CurrentPage");
+        scanResult = "SCAN_COMPLETED";
+    }
+
+    @Then("the last incremental scan should have been partial over {string}")
+    public void verifyPartialScan(final String region) {
+        logger.info("Step: Verifying the incremental scan was partial");
+        if (incrementalScan == null) {
+            throw new AssertionError("Incremental accessibility scan was not performed");
+        }
+        if (!"partial".equals(incrementalScan.getMode()) || !incrementalScan.getRegions().contains(region)) {
+            throw new AssertionError(String.format("Expected a partial scan covering %s but got a %s scan of %s",
+                    region, incrementalScan.getMode(), incrementalScan.getRegions()));
+        }
+        logger.info("✓ Incremental scan covered {}", incrementalScan.getRegions());
+    }
+
+    @When("I crawl the site for accessibility issues")
+    public void crawlSite() {
+        logger.info("Step: Crawling the site for accessibility issues");
+        crawlReport = AccessibilityCrawler.fromConfig().crawl(ConfigReader.getBaseUrl() + "/");
+        scanResult = "SCAN_COMPLETED";
+    }
+
+    @Then("the crawl should scan {int} pages and skip {int} duplicate(s)")
+    public void verifyCrawl(final int scanned, final int duplicates) {
+        logger.info("Step: Verifying crawl coverage");
+        if (crawlReport == null) {
+            throw new AssertionError("Accessibility crawl was not performed");
+        }
+        crawlReport.getPages().forEach(page -> logger.info("  {} [{}] {}", page.getUrl(), page.getStatus(),
+                page.getError() != null ? page.getError() : page.getViolations().size() + " violations"));
+        if (crawlReport.count("scanned") != scanned || crawlReport.count("duplicate") != duplicates) {
+            throw new AssertionError(String.format("Expected %d scanned and %d duplicate pages but got %d and %d",
+                    scanned, duplicates, crawlReport.count("scanned"), crawlReport.count("duplicate")));
+        }
+        logger.info("✓ Crawl scanned {} pages", scanned);
+    }
+
     @When("I navigate using keyboard only")
     public void navigateUsingKeyboard() {
         logger.info("Step: Testing keyboard navigation");
@@ -103,6 +178,17 @@ public class AccessibilitySteps {
         logger.info("✓ ARIA labels verified");
     }
 
+    @Then("the login form fields should pass an element scan")
+    public void scanLoginFormFields() {
+        logger.info("Step: Scanning login form fields");
+        final Page page = ScenarioContext.getPage();
+        final Map<String, Locator> fields = new LinkedHashMap<>();
+        fields.put("Email input field", page.locator("#email"));
+        fields.put("Password input field", page.locator("#password"));
+        AccessibilityUtil.scanElements(page, fields);
+        logger.info("✓ Login form fields scanned");
+    }
+
     @Then("all interactive elements should be reachable")
     public void verifyElementsReachable() {
         logger.info("Step: Verifying all interactive elements are reachable");
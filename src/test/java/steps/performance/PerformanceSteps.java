@@ -0,0 +1,56 @@
+package steps.performance;
+
+import com.microsoft.playwright.Page;
+import cucumber.ScenarioContext;
+import io.cucumber.java.Before;
+import io.cucumber.java.en.Then;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.PagePerformance;
+import utils.PerformanceBudget;
+
+/**
+ * Step definitions for performance budgets.
+ * The current page is measured once, on the first budget step after
+ * navigation; later steps in the scenario check the same measurement.
+ */
+public class PerformanceSteps {
+
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceSteps.class);
+    private PerformanceBudget.Measurement measurement;
+
+    /**
+     * Record network transfer for performance scenarios. Runs after
+     * BrowserHooks has created the page and before any navigation.
+     */
+    @Before(value = "@performance", order = 20000)
+    public void trackNetwork() {
+        PerformanceBudget.track(ScenarioContext.getPage());
+    }
+
+    @Then("the page should load within {int} ms")
+    public void verifyLoadTime(final int maxMs) {
+        logger.info("Step: Verifying page load within {} ms", maxMs);
+        PerformanceBudget.assertWithin(currentMeasurement(), PagePerformance.LOAD, maxMs);
+    }
+
+    @Then("total transferred bytes should be under {int} KB")
+    public void verifyTransferSize(final int maxKb) {
+        logger.info("Step: Verifying transferred bytes under {} KB", maxKb);
+        PerformanceBudget.assertWithin(currentMeasurement(), PerformanceBudget.TRANSFER_KB, maxKb);
+    }
+
+    @Then("the {string} page should meet its performance budget")
+    public void verifyPageBudget(final String pageName) {
+        logger.info("Step: Verifying performance budget of {}", pageName);
+        PerformanceBudget.assertWithinBudget(currentMeasurement().as(pageName));
+    }
+
+    private PerformanceBudget.Measurement currentMeasurement() {
+        if (measurement == null) {
+            final Page page = ScenarioContext.getPage();
+            measurement = PerformanceBudget.measure(page, "CurrentPage");
+        }
+        return measurement;
+    }
+}
@@ -10,6 +10,25 @@ Feature: Accessibility Compliance
     Then the page should have no critical violations
     And the page should have proper heading hierarchy
     And form fields should have proper ARIA labels
+    And the login form fields should pass an element scan
+
+  @accessibility @a11y @login
+  Scenario: Login form stays accessible while it is used
+    Given I open the login page
+    And accessibility changes are tracked
+    When I run an incremental accessibility scan
+    And I enter email "invalid@example.com"
+    And I enter password "wrongpassword"
+    And I click the login button
+    And I run an incremental accessibility scan
+    Then the last incremental scan should have been partial over "#errorMessage"
+    And the page should have no critical violations
+
+  @accessibility @a11y @crawl
+  Scenario: Bundled pages pass a crawled accessibility audit
+    When I crawl the site for accessibility issues
+    Then the crawl should scan 3 pages and skip 1 duplicate
+    And the page should have no critical violations
 
   @accessibility @a11y @home
   Scenario: Home page keyboard navigation is working
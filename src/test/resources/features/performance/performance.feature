@@ -0,0 +1,12 @@
+@no-blocking
+Feature: Page Performance Budgets
+  As a user
+  I want pages to load quickly
+  So that the application feels responsive
+
+  @performance @login
+  Scenario: Login page loads within its performance budget
+    Given I open the login page
+    Then the page should load within 800 ms
+    And total transferred bytes should be under 500 KB
+    And the "LoginPage" page should meet its performance budget